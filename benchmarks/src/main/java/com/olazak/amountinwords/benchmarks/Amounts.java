@@ -0,0 +1,48 @@
+package com.olazak.amountinwords.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Realistic amount distributions in cents shared by the benchmarks.
+ */
+public enum Amounts {
+    /** Shop receipts: up to 2 000.00. */
+    RETAIL {
+        long next(Random random) {
+            return 100 + (long) (random.nextDouble() * random.nextDouble() * 200000);
+        }
+    },
+    /** Salaries and invoices: 5 000.00 to 500 000.00. */
+    PAYROLL {
+        long next(Random random) {
+            return 500000 + (long) (random.nextDouble() * 49500000);
+        }
+    },
+    /** Close to 2147483647.00, the largest amount before the full long range was supported. */
+    NEAR_CAP {
+        long next(Random random) {
+            return MAX - (long) (random.nextDouble() * 1000000000L);
+        }
+    },
+    /** Treasury and interbank settlements: up to the largest {@code long} amount. */
+    TREASURY {
+        long next(Random random) {
+            return (long) (random.nextDouble() * Long.MAX_VALUE);
+        }
+    };
+
+    static final long MAX = 214748364700L;
+
+    /** Size of generated samples, power of two so that benchmarks can cycle with a mask. */
+    static final int SIZE = 4096;
+
+    abstract long next(Random random);
+
+    long[] sample() {
+        Random random = new Random(42);
+        long[] amounts = new long[SIZE];
+        for (int i = 0; i < amounts.length; i++)
+            amounts[i] = next(random);
+        return amounts;
+    }
+}
@@ -0,0 +1,73 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch formatting of {@link Amounts#SIZE} amounts against a loop of single {@link AmountInWords#format} calls,
+ * scores are per amount.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(Amounts.SIZE)
+public class BatchBenchmark {
+    @Param({"RETAIL", "PAYROLL", "NEAR_CAP", "TREASURY"})
+    public Amounts distribution;
+
+    @Param({"UAH:UA", "USD:ENG"})
+    public String currencyLanguage;
+
+    private long[] amounts;
+    private String[] result;
+    private StringBuilder out;
+    private AmountInWords.Currency currency;
+    private String language;
+
+    @Setup
+    public void setUp() {
+        amounts = distribution.sample();
+        result = new String[amounts.length];
+        out = new StringBuilder(amounts.length * 128);
+        String[] parts = currencyLanguage.split(":");
+        currency = AmountInWords.Currency.byName(parts[0]);
+        language = parts[1];
+    }
+
+    @Benchmark
+    public String[] singleCalls() {
+        for (int i = 0; i < amounts.length; i++)
+            result[i] = AmountInWords.format(amounts[i], currency, language);
+        return result;
+    }
+
+    @Benchmark
+    public String[] batchToArray() {
+        AmountInWords.format(amounts, currency, language, result);
+        return result;
+    }
+
+    @Benchmark
+    public StringBuilder batchToAppendable() throws IOException {
+        out.setLength(0);
+        AmountInWords.format(amounts, currency, language, out);
+        return out;
+    }
+}
@@ -0,0 +1,32 @@
+package com.olazak.amountinwords.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks matching the given regexps (all by default) with 1, 2, 4 ... N threads,
+ * where N is the number of available processors, and reports allocation rates of the GC profiler.
+ * <p>
+ * Usage: {@code java -jar benchmarks/target/benchmarks.jar [regexp...]}.
+ * Plain JMH options are still available through {@code java -cp benchmarks/target/benchmarks.jar org.openjdk.jmh.Main}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class);
+            if (args.length == 0) options.include(".*");
+            for (String include : args)
+                options.include(include);
+
+            new Runner(options.build()).run();
+
+            if (threads == processors) break;
+        }
+    }
+}
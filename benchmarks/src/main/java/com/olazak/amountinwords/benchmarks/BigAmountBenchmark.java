@@ -0,0 +1,73 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same amounts formatted from {@code long}, {@link BigInteger} cents and {@link BigDecimal} units,
+ * plus amounts beyond {@code long} that only the {@link BigInteger} entry point can spell.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BigAmountBenchmark {
+    @Param({"RETAIL", "TREASURY"})
+    public Amounts distribution;
+
+    private long[] amounts;
+    private BigInteger[] bigIntegers;
+    private BigDecimal[] bigDecimals;
+    private BigInteger[] hugeAmounts;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        amounts = distribution.sample();
+        bigIntegers = new BigInteger[amounts.length];
+        bigDecimals = new BigDecimal[amounts.length];
+        hugeAmounts = new BigInteger[amounts.length];
+        BigInteger shift = BigInteger.TEN.pow(18);
+        for (int i = 0; i < amounts.length; i++) {
+            bigIntegers[i] = BigInteger.valueOf(amounts[i]);
+            bigDecimals[i] = BigDecimal.valueOf(amounts[i], 2);
+            hugeAmounts[i] = bigIntegers[i].multiply(shift).add(bigIntegers[i]);
+        }
+    }
+
+    @Benchmark
+    public String primitive() {
+        return AmountInWords.format(amounts[index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA");
+    }
+
+    @Benchmark
+    public String bigInteger() {
+        return AmountInWords.format(bigIntegers[index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA");
+    }
+
+    @Benchmark
+    public String bigDecimal() {
+        return AmountInWords.format(bigDecimals[index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA");
+    }
+
+    @Benchmark
+    public String beyondLong() {
+        return AmountInWords.format(hugeAmounts[index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA");
+    }
+}
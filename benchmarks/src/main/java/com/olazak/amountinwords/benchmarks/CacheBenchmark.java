@@ -0,0 +1,66 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import com.olazak.amountinwords.FormatCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AmountInWords#format} with and without {@link FormatCache} on billing-like amounts,
+ * where 90% of the calls are for 32 fees and subscription prices and the rest are retail amounts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+    @Param({"0", "1024"})
+    public int cacheSize;
+
+    private long[] amounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long[] prices = new long[32];
+        for (int i = 0; i < prices.length; i++)
+            prices[i] = (1 + random.nextInt(500)) * 99L;
+
+        amounts = new long[Amounts.SIZE];
+        for (int i = 0; i < amounts.length; i++)
+            amounts[i] = random.nextInt(10) == 0 ? Amounts.RETAIL.next(random) : prices[random.nextInt(prices.length)];
+
+        AmountInWords.setCache(cacheSize == 0 ? null : new FormatCache(cacheSize));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println(AmountInWords.getCache());
+        AmountInWords.setCache(null);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Benchmark
+    public String format(Cursor cursor) {
+        return AmountInWords.format(amounts[cursor.index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA");
+    }
+}
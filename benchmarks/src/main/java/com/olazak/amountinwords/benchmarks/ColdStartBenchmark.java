@@ -0,0 +1,57 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import com.olazak.amountinwords.LanguageRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to the first format call in a fresh JVM, class loading and building of the tables included.
+ * Every fork measures one call, so the score is an average over forks. The {@code Read} benchmarks format
+ * with languages read from tables the build writes with {@code Main --write-tables}, the others build
+ * the tables of the registered languages from their rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+    @Benchmark
+    public String firstFormatUA() {
+        return AmountInWords.format(123456789, AmountInWords.UAH, "UA");
+    }
+
+    @Benchmark
+    public String firstFormatENG() {
+        return AmountInWords.format(123456789, AmountInWords.USD, "ENG");
+    }
+
+    @Benchmark
+    public String firstFormatReadUA() throws IOException {
+        return AmountInWords.format(123456789, AmountInWords.UAH, read("UA"));
+    }
+
+    @Benchmark
+    public String firstFormatReadENG() throws IOException {
+        return AmountInWords.format(123456789, AmountInWords.USD, read("ENG"));
+    }
+
+    private static LanguageRenderer read(String language) throws IOException {
+        try (InputStream in = ColdStartBenchmark.class.getResourceAsStream("/tables/" + language + ".tables")) {
+            return LanguageRenderer.readFrom(in);
+        }
+    }
+}
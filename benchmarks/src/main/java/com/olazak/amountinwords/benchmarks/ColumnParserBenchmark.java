@@ -0,0 +1,92 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountColumnParser;
+import com.olazak.amountinwords.AmountParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk ingest of a block of UA amounts, one per line, into a {@code long[]} column: the former regex path
+ * of the console and {@link AmountParser} line by line against {@link AmountColumnParser}. Scores are per amount.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnParserBenchmark {
+    private static final int FIXED_WIDTH = 24;
+
+    @Param({"RETAIL", "PAYROLL", "NEAR_CAP"})
+    public Amounts distribution;
+
+    private byte[] lines;
+    private byte[] fixed;
+    private final long[] column = new long[Amounts.SIZE];
+
+    @Setup
+    public void setUp() {
+        long[] amounts = distribution.sample();
+        StringBuilder text = new StringBuilder();
+        StringBuilder records = new StringBuilder();
+        for (long amount : amounts) {
+            String value = String.format("%d,%02d", amount / 100, amount % 100);
+            text.append(value).append('\n');
+            records.append(String.format("%" + (FIXED_WIDTH - 1) + "s", value)).append('\n');
+        }
+        lines = text.toString().getBytes(StandardCharsets.US_ASCII);
+        fixed = records.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Amounts.SIZE)
+    public long[] regex() {
+        String[] values = new String(lines, StandardCharsets.US_ASCII).split("\n");
+        for (int i = 0; i < values.length; i++) {
+            if (!values[i].matches("^([,\\d]+)([,]\\d{2})$")) throw new IllegalArgumentException(values[i]);
+            column[i] = Long.parseLong(values[i].replaceAll("[,]", ""));
+        }
+        return column;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Amounts.SIZE)
+    public long[] parserLines() {
+        int count = 0;
+        int from = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] != '\n') continue;
+            column[count++] = AmountParser.UA.parse(lines, from, i);
+            from = i + 1;
+        }
+        return column;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Amounts.SIZE)
+    public long[] columnLines() {
+        new AmountColumnParser(AmountParser.UA).parseLines(lines, 0, lines.length, column, 0);
+        return column;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Amounts.SIZE)
+    public long[] columnFixed() {
+        new AmountColumnParser(AmountParser.UA).parseFixed(fixed, 0, FIXED_WIDTH, Amounts.SIZE, column, 0);
+        return column;
+    }
+}
@@ -0,0 +1,76 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry lookups of {@link AmountInWords.Currency}, first and last registered currency,
+ * with only UAH and USD registered and with as many currencies as ISO 4217 has.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyBenchmark {
+    @Param({"2", "180"})
+    public int registered;
+
+    public int uahCode = 980;
+    public int usdCode = 840;
+    public String uahName = "UAH";
+    public String usdName = "USD";
+    public String usdTextCode = "840";
+
+    @Setup
+    public void setUp() {
+        AmountInWords.Currency[] currencies = new AmountInWords.Currency[Math.max(0, registered - 2)];
+        for (int i = 2; i < registered; i++) {
+            String name = "" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26) + 'X';
+            currencies[i - 2] = new AmountInWords.Currency(i, name) {{
+                oneInteger = twoIntegers = fiveIntegers = name;
+                oneFraction = twoFractions = fiveFractions = name;
+                integerSex = fractionSex = AmountInWords.Sex.MALE;
+            }};
+        }
+        AmountInWords.addCurrencies(currencies);
+    }
+
+    @Benchmark
+    public AmountInWords.Currency byCodeFirst() {
+        return AmountInWords.Currency.byCode(uahCode);
+    }
+
+    @Benchmark
+    public AmountInWords.Currency byCodeLast() {
+        return AmountInWords.Currency.byCode(usdCode);
+    }
+
+    @Benchmark
+    public AmountInWords.Currency byCodeText() {
+        return AmountInWords.Currency.byCode(usdTextCode);
+    }
+
+    @Benchmark
+    public AmountInWords.Currency byNameFirst() {
+        return AmountInWords.Currency.byName(uahName);
+    }
+
+    @Benchmark
+    public AmountInWords.Currency byNameLast() {
+        return AmountInWords.Currency.byName(usdName);
+    }
+}
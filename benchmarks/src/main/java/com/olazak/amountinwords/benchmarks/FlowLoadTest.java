@@ -0,0 +1,153 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountFlow;
+import com.olazak.amountinwords.AmountInWords;
+import com.olazak.amountinwords.FormatProcessor;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process load test of {@link FormatProcessor}: a publisher emits events of mixed currencies and languages
+ * for the given time, either as fast as the processor requests them or at a fixed rate, and a subscriber
+ * records the latency from the moment every event was due to the moment its result arrived.
+ * End-to-end p50, p99, p99.9 and sustained throughput are reported.
+ * <p>
+ * Usage: {@code java -cp benchmarks/target/benchmarks.jar com.olazak.amountinwords.benchmarks.FlowLoadTest
+ * [seconds] [batchSize] [lingerMicros] [parallelism] [eventsPerSecond]}, rate 0 sends as fast as demand allows.
+ */
+public class FlowLoadTest {
+    private static final int SUBSCRIBER_DEMAND = 256;
+
+    // USD has no words for all plural forms of UA, so UAH in UA takes its place.
+    private static final Object[][] STREAMS = {
+            {AmountInWords.UAH, "UA"}, {AmountInWords.USD, "ENG"}, {AmountInWords.UAH, "ENG"}, {AmountInWords.UAH, "UA"}};
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        long lingerMicros = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+        int parallelism = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long rate = args.length > 4 ? Long.parseLong(args[4]) : 0;
+
+        // Warm up the processor and formatting before measuring.
+        run(Math.max(1, seconds / 5), batchSize, lingerMicros, parallelism, rate);
+        Latencies latencies = run(seconds, batchSize, lingerMicros, parallelism, rate);
+
+        System.out.printf("batch %d, linger %d us, parallelism %d, rate %s%n",
+                batchSize, lingerMicros, parallelism, rate == 0 ? "as requested" : rate + "/s");
+        latencies.report(seconds);
+    }
+
+    private static Latencies run(int seconds, int batchSize, long lingerMicros, int parallelism, long rate)
+            throws InterruptedException {
+        FormatProcessor processor = new FormatProcessor(batchSize, lingerMicros, TimeUnit.MICROSECONDS, parallelism);
+        Latencies latencies = new Latencies();
+        processor.subscribe(latencies);
+
+        Source source = new Source(seconds, rate);
+        source.subscribe(processor);
+        source.run();
+
+        latencies.finished.await();
+        return latencies;
+    }
+
+    /** Emits events on the calling thread while there is demand, events carry the time they were due. */
+    private static final class Source implements AmountFlow.Publisher<FormatProcessor.Event> {
+        final long deadline;
+        final long periodNanos;
+        final long[] amounts = Amounts.RETAIL.sample();
+        final AtomicLong demand = new AtomicLong();
+        volatile boolean cancelled;
+        AmountFlow.Subscriber<? super FormatProcessor.Event> subscriber;
+
+        Source(int seconds, long rate) {
+            this.deadline = System.nanoTime() + seconds * 1000000000L;
+            this.periodNanos = rate == 0 ? 0 : 1000000000L / rate;
+        }
+
+        public void subscribe(AmountFlow.Subscriber<? super FormatProcessor.Event> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new AmountFlow.Subscription() {
+                public void request(long n) {
+                    demand.addAndGet(n);
+                }
+
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        void run() {
+            long started = System.nanoTime();
+            for (long n = 0; !cancelled; n++) {
+                long due = periodNanos == 0 ? 0 : started + n * periodNanos;
+                while (System.nanoTime() < due) LockSupport.parkNanos(due - System.nanoTime());
+                while (demand.get() == 0 && !cancelled && System.nanoTime() < deadline) LockSupport.parkNanos(1000);
+
+                long now = System.nanoTime();
+                if (now >= deadline || cancelled) break;
+
+                Object[] stream = STREAMS[(int) (n & (STREAMS.length - 1))];
+                demand.decrementAndGet();
+                subscriber.onNext(new FormatProcessor.Event(amounts[(int) (n & (Amounts.SIZE - 1))], stream[0],
+                        (String) stream[1], periodNanos == 0 ? now : due));
+            }
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class Latencies implements AmountFlow.Subscriber<FormatProcessor.Result> {
+        final CountDownLatch finished = new CountDownLatch(1);
+        AmountFlow.Subscription subscription;
+        long[] values = new long[1 << 16];
+        int count;
+        int errors;
+        int received;
+
+        public void onSubscribe(AmountFlow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(SUBSCRIBER_DEMAND);
+        }
+
+        public void onNext(FormatProcessor.Result result) {
+            long latency = System.nanoTime() - (Long) result.getEvent().getAttachment();
+            if (result.getError() != null) errors++;
+            if (count == values.length) values = Arrays.copyOf(values, count * 2);
+            values[count++] = latency;
+
+            if (++received == SUBSCRIBER_DEMAND / 2) {
+                received = 0;
+                subscription.request(SUBSCRIBER_DEMAND / 2);
+            }
+        }
+
+        public void onError(Throwable throwable) {
+            throwable.printStackTrace();
+            finished.countDown();
+        }
+
+        public void onComplete() {
+            finished.countDown();
+        }
+
+        void report(int seconds) {
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            System.out.printf("%d events in %d s, %.0f events/sec, %d errors%n", count, seconds, count / (double) seconds, errors);
+            System.out.printf("latency p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us%n",
+                    percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    count == 0 ? 0 : sorted[count - 1] / 1e3);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) return 0;
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1e3;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import com.olazak.amountinwords.CurrencyRenderer;
+import com.olazak.amountinwords.LanguageRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AmountInWords#format} throughput for UAH in UA and USD in ENG over the {@link Amounts} distributions.
+ * Run with {@code -t N} or through {@link BenchmarkRunner} for concurrent throughput and allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatBenchmark {
+    @Param({"RETAIL", "PAYROLL", "NEAR_CAP", "TREASURY"})
+    public Amounts distribution;
+
+    @Param({"UAH:UA", "USD:ENG"})
+    public String currencyLanguage;
+
+    private long[] amounts;
+    private AmountInWords.Currency currency;
+    private String language;
+    private LanguageRenderer renderer;
+    private CurrencyRenderer currencyRenderer;
+
+    @Setup
+    public void setUp() {
+        amounts = distribution.sample();
+        String[] parts = currencyLanguage.split(":");
+        currency = AmountInWords.Currency.byName(parts[0]);
+        language = parts[1];
+        renderer = AmountInWords.getLanguage(language);
+        currencyRenderer = AmountInWords.getRenderer(currency, renderer);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+        final StringBuilder builder = new StringBuilder(256);
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(1024);
+    }
+
+    @Benchmark
+    public String format(Cursor cursor) {
+        long amount = amounts[cursor.index++ & (Amounts.SIZE - 1)];
+        return AmountInWords.format(amount, currency, language);
+    }
+
+    @Benchmark
+    public String formatWithRenderer(Cursor cursor) {
+        long amount = amounts[cursor.index++ & (Amounts.SIZE - 1)];
+        return AmountInWords.format(amount, currency, renderer);
+    }
+
+    @Benchmark
+    public String formatWithCurrencyRenderer(Cursor cursor) {
+        long amount = amounts[cursor.index++ & (Amounts.SIZE - 1)];
+        return currencyRenderer.format(amount);
+    }
+
+    @Benchmark
+    public StringBuilder appendToBuilder(Cursor cursor) {
+        long amount = amounts[cursor.index++ & (Amounts.SIZE - 1)];
+        cursor.builder.setLength(0);
+        return AmountInWords.format(amount, currency, language, cursor.builder);
+    }
+
+    @Benchmark
+    public ByteBuffer putToByteBuffer(Cursor cursor) {
+        long amount = amounts[cursor.index++ & (Amounts.SIZE - 1)];
+        cursor.bytes.clear();
+        return AmountInWords.format(amount, currency, language, cursor.bytes);
+    }
+
+    @Benchmark
+    public ByteBuffer formatAndEncode(Cursor cursor) {
+        long amount = amounts[cursor.index++ & (Amounts.SIZE - 1)];
+        cursor.bytes.clear();
+        return cursor.bytes.put(AmountInWords.format(amount, currency, language).getBytes(StandardCharsets.UTF_8));
+    }
+}
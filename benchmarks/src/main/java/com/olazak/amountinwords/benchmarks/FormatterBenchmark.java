@@ -0,0 +1,78 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountFormatter;
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AmountFormatter} against {@link AmountInWords#format} returning strings.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} of {@code formatView} and {@code formatAndCopy}
+ * is expected to be zero bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatterBenchmark {
+    @Param({"RETAIL", "NEAR_CAP"})
+    public Amounts distribution;
+
+    @Param({"UAH:UA", "USD:ENG"})
+    public String currencyLanguage;
+
+    private long[] amounts;
+    private String currency;
+    private String language;
+
+    @Setup
+    public void setUp() {
+        amounts = distribution.sample();
+        String[] parts = currencyLanguage.split(":");
+        currency = parts[0];
+        language = parts[1];
+    }
+
+    @State(Scope.Thread)
+    public static class Context {
+        int index;
+        AmountFormatter formatter;
+        final char[] destination = new char[1024];
+
+        @Setup
+        public void setUp(FormatterBenchmark benchmark) {
+            formatter = new AmountFormatter(AmountInWords.Currency.byName(benchmark.currency), benchmark.language);
+        }
+    }
+
+    @Benchmark
+    public String formatString(Context context) {
+        long amount = amounts[context.index++ & (Amounts.SIZE - 1)];
+        return AmountInWords.format(amount, AmountInWords.Currency.byName(currency), language);
+    }
+
+    @Benchmark
+    public CharSequence formatView(Context context) {
+        return context.formatter.format(amounts[context.index++ & (Amounts.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public char[] formatAndCopy(Context context) {
+        context.formatter.format(amounts[context.index++ & (Amounts.SIZE - 1)]);
+        context.formatter.copyTo(context.destination, 0);
+        return context.destination;
+    }
+}
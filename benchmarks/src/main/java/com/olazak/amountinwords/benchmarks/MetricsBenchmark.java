@@ -0,0 +1,50 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of format metrics: the same call in a JVM with metrics off and in one with metrics on.
+ * With metrics off both methods are expected to match {@link FormatBenchmark#format}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MetricsBenchmark {
+    private long[] amounts;
+
+    @Setup
+    public void setUp() {
+        amounts = Amounts.RETAIL.sample();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Benchmark
+    @Fork(1)
+    public String metricsOff(Cursor cursor) {
+        return AmountInWords.format(amounts[cursor.index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA");
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Damountinwords.metrics=true")
+    public String metricsOn(Cursor cursor) {
+        return AmountInWords.format(amounts[cursor.index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA");
+    }
+}
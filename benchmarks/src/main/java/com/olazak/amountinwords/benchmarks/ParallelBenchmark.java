@@ -0,0 +1,77 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link AmountInWords#formatParallel} over a million payroll amounts
+ * with pools of 1 to 32 threads, scores are per amount.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ParallelBenchmark.SIZE)
+public class ParallelBenchmark {
+    static final int SIZE = 1 << 20;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"UAH:UA", "USD:ENG"})
+    public String currencyLanguage;
+
+    private long[] amounts;
+    private String[] result;
+    private ForkJoinPool pool;
+    private AmountInWords.Currency currency;
+    private String language;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new long[SIZE];
+        for (int i = 0; i < amounts.length; i++)
+            amounts[i] = Amounts.PAYROLL.next(random);
+        result = new String[SIZE];
+        pool = new ForkJoinPool(threads);
+        String[] parts = currencyLanguage.split(":");
+        currency = AmountInWords.Currency.byName(parts[0]);
+        language = parts[1];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String[] sequential() {
+        AmountInWords.format(amounts, currency, language, result);
+        return result;
+    }
+
+    @Benchmark
+    public String[] parallel() {
+        AmountInWords.formatParallel(amounts, currency, language, result, pool);
+        return result;
+    }
+}
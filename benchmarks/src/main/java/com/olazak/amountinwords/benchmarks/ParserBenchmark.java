@@ -0,0 +1,65 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of UA amounts: the former regex, replaceAll and Long.parseLong path of the console
+ * against {@link AmountParser} on Strings and on bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"RETAIL", "PAYROLL", "NEAR_CAP"})
+    public Amounts distribution;
+
+    private String[] texts;
+    private byte[][] bytes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        long[] amounts = distribution.sample();
+        texts = new String[amounts.length];
+        bytes = new byte[amounts.length][];
+        for (int i = 0; i < amounts.length; i++) {
+            texts[i] = String.format("%d,%02d", amounts[i] / 100, amounts[i] % 100);
+            bytes[i] = texts[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Benchmark
+    public long regex() {
+        String value = texts[index++ & (Amounts.SIZE - 1)];
+        if (!value.matches("^([,\\d]+)([,]\\d{2})$")) return -1;
+        return Long.parseLong(value.replaceAll("[,]", ""));
+    }
+
+    @Benchmark
+    public long parserText() {
+        return AmountParser.UA.parse(texts[index++ & (Amounts.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public long parserBytes() {
+        byte[] value = bytes[index++ & (Amounts.SIZE - 1)];
+        return AmountParser.UA.parse(value, 0, value.length);
+    }
+}
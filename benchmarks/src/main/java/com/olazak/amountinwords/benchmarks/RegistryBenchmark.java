@@ -0,0 +1,98 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and formats while currencies are registered and removed on another thread, against the same readers
+ * without writers. Consistency under contention is checked by {@code RegistryStressTest} of the core tests.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistryBenchmark {
+    private static final int FIRST_CODE = 900;
+    private static final int CODES = 64;
+
+    private long[] amounts;
+    private AmountInWords.Currency[] currencies;
+
+    @Setup
+    public void setUp() {
+        amounts = Amounts.RETAIL.sample();
+        currencies = new AmountInWords.Currency[CODES];
+        for (int i = 0; i < CODES; i++)
+            currencies[i] = currency(FIRST_CODE + i, "R" + (char) ('A' + i / 26) + (char) ('A' + i % 26));
+    }
+
+    private static AmountInWords.Currency currency(int code, final String name) {
+        return new AmountInWords.Currency(code, name) {{
+            oneInteger = twoIntegers = fiveIntegers = name;
+            oneFraction = twoFractions = fiveFractions = name.toLowerCase();
+            integerSex = fractionSex = AmountInWords.Sex.MALE;
+        }};
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Benchmark
+    @Group("withWriter")
+    @GroupThreads(2)
+    public String formatWithWriter(Cursor cursor) {
+        return format(cursor);
+    }
+
+    @Benchmark
+    @Group("withWriter")
+    @GroupThreads(1)
+    public AmountInWords.Currency lookupWithWriter(Cursor cursor) {
+        return AmountInWords.Currency.byCode(FIRST_CODE + (cursor.index++ & (CODES - 1)));
+    }
+
+    @Benchmark
+    @Group("withWriter")
+    @GroupThreads(1)
+    public void register(Cursor cursor) {
+        // Every other call removes the currency added by the previous one.
+        AmountInWords.Currency currency = currencies[(cursor.index >>> 1) & (CODES - 1)];
+        if ((cursor.index++ & 1) == 0) AmountInWords.addCurrency(currency);
+        else AmountInWords.removeCurrency(currency);
+    }
+
+    @Benchmark
+    @Group("readersOnly")
+    @GroupThreads(2)
+    public String formatReadersOnly(Cursor cursor) {
+        return format(cursor);
+    }
+
+    @Benchmark
+    @Group("readersOnly")
+    @GroupThreads(1)
+    public AmountInWords.Currency lookupReadersOnly(Cursor cursor) {
+        return AmountInWords.Currency.byCode(FIRST_CODE + (cursor.index++ & (CODES - 1)));
+    }
+
+    private String format(Cursor cursor) {
+        return AmountInWords.format(amounts[cursor.index++ & (Amounts.SIZE - 1)], AmountInWords.Currency.byCode(980), "UA");
+    }
+}
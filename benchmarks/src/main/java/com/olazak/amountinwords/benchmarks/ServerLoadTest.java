@@ -0,0 +1,117 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load test of {@link AmountServer}: every client thread sends {@code GET /words} requests
+ * one after another for the given time and records their latencies, then p50, p99, p99.9 and throughput are reported.
+ * <p>
+ * Usage: {@code java -cp benchmarks/target/benchmarks.jar com.olazak.amountinwords.benchmarks.ServerLoadTest
+ * [clients] [seconds] [url]}. Without url the server is started in the same JVM on a free port,
+ * with Nagle's algorithm off as {@link com.olazak.amountinwords.Main} starts it.
+ */
+public class ServerLoadTest {
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        AmountServer server = null;
+        String url;
+        if (args.length > 2) {
+            url = args[2];
+        } else {
+            if (System.getProperty("sun.net.httpserver.nodelay") == null)
+                System.setProperty("sun.net.httpserver.nodelay", "true");
+            server = new AmountServer(new InetSocketAddress("127.0.0.1", 0), Runtime.getRuntime().availableProcessors() * 2);
+            server.start();
+            url = "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        // Warm up the server and the client connections before measuring.
+        run(url, clients, Math.max(1, seconds / 5));
+        long[][] latencies = run(url, clients, seconds);
+        if (server != null) server.stop(0);
+
+        report(latencies, seconds);
+    }
+
+    private static long[][] run(final String url, int clients, int seconds) throws Exception {
+        final long deadline = System.nanoTime() + seconds * 1000000000L;
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            Future<?>[] futures = new Future<?>[clients];
+            for (int i = 0; i < clients; i++) {
+                final long[] amounts = Amounts.RETAIL.sample();
+                final int offset = i * 977;
+                futures[i] = pool.submit(new Callable<long[]>() {
+                    public long[] call() throws IOException {
+                        long[] latencies = new long[1024];
+                        int count = 0;
+                        for (int n = offset; System.nanoTime() < deadline; n++) {
+                            long amount = amounts[n & (Amounts.SIZE - 1)];
+                            long started = System.nanoTime();
+                            get(url + "/words?currency=UAH&lang=UA&amount=" + amount / 100 + "," + String.format("%02d", amount % 100));
+                            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                            latencies[count++] = System.nanoTime() - started;
+                        }
+                        return Arrays.copyOf(latencies, count);
+                    }
+                });
+            }
+
+            long[][] latencies = new long[clients][];
+            for (int i = 0; i < clients; i++)
+                latencies[i] = (long[]) futures[i].get();
+            return latencies;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void get(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        if (connection.getResponseCode() != 200)
+            throw new IOException("Status " + connection.getResponseCode() + " for " + url);
+
+        // Reading the whole body lets the connection be reused by the next request.
+        byte[] buffer = new byte[4096];
+        try (InputStream in = connection.getInputStream()) {
+            while (in.read(buffer) >= 0) ;
+        }
+    }
+
+    private static void report(long[][] latencies, int seconds) {
+        int total = 0;
+        for (long[] client : latencies)
+            total += client.length;
+
+        long[] all = new long[total];
+        int position = 0;
+        for (long[] client : latencies) {
+            System.arraycopy(client, 0, all, position, client.length);
+            position += client.length;
+        }
+        Arrays.sort(all);
+
+        System.out.printf("%d clients, %d requests in %d s, %.0f requests/sec%n",
+                latencies.length, total, seconds, total / (double) seconds);
+        System.out.printf("latency p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us%n",
+                percentile(all, 0.5), percentile(all, 0.99), percentile(all, 0.999), total == 0 ? 0 : all[total - 1] / 1e3);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1e3;
+    }
+}
@@ -0,0 +1,79 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import com.olazak.amountinwords.PhraseDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Archiving amounts in words: UTF-8 text into a buffer against {@link PhraseDictionary} tokens,
+ * and decoding tokens back to text. Bytes per row of both forms are printed once in the setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBenchmark {
+    @Param({"RETAIL", "NEAR_CAP"})
+    public Amounts distribution;
+
+    private long[] amounts;
+    private PhraseDictionary dictionary;
+    private short[] tokens;
+    private int[] rows;
+    private final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    private final StringBuilder text = new StringBuilder(256);
+    private int index;
+
+    @Setup
+    public void setUp() {
+        amounts = distribution.sample();
+        dictionary = PhraseDictionary.of(AmountInWords.UAH, "UA");
+
+        tokens = new short[Amounts.SIZE * PhraseDictionary.MAX_TOKENS];
+        rows = new int[Amounts.SIZE];
+        int position = 0;
+        long utf8 = 0;
+        for (int i = 0; i < Amounts.SIZE; i++) {
+            rows[i] = position;
+            position = dictionary.encode(amounts[i], tokens, position);
+            buffer.clear();
+            utf8 += AmountInWords.format(amounts[i], AmountInWords.UAH, "UA", buffer).position();
+        }
+        System.out.printf("%n%s: %.1f bytes per row as UTF-8, %.1f as tokens%n",
+                distribution, utf8 / (double) Amounts.SIZE, position * 2.0 / Amounts.SIZE);
+    }
+
+    @Benchmark
+    public ByteBuffer utf8() {
+        buffer.clear();
+        return AmountInWords.format(amounts[index++ & (Amounts.SIZE - 1)], AmountInWords.UAH, "UA", buffer);
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        return dictionary.encode(amounts[index++ & (Amounts.SIZE - 1)], buffer);
+    }
+
+    @Benchmark
+    public StringBuilder decode() {
+        text.setLength(0);
+        dictionary.decode(tokens, rows[index++ & (Amounts.SIZE - 1)], text);
+        return text;
+    }
+}
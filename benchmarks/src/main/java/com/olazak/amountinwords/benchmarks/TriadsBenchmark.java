@@ -0,0 +1,64 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Triad decomposition: {@link AmountInWords.Triads#split(long)} against the former
+ * {@code Math.pow} divisor per triad.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TriadsBenchmark {
+    private static final int[] POWERS = {9, 6, 3, 0};
+
+    private long[] amounts;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new long[1024];
+        for (int i = 0; i < amounts.length; i++)
+            amounts[i] = (long) (random.nextDouble() * 214748364700L);
+    }
+
+    private long next() {
+        return amounts[index++ & (amounts.length - 1)];
+    }
+
+    @Benchmark
+    public void mathPow(Blackhole blackhole) {
+        long amount = next();
+        for (int power : POWERS) {
+            long divisor = (long) Math.pow(10, power + 2);
+            blackhole.consume((int) (amount / divisor % 1000));
+        }
+        blackhole.consume((int) (amount % 100));
+    }
+
+    @Benchmark
+    public void packed(Blackhole blackhole) {
+        long triads = AmountInWords.Triads.split(next());
+        for (int index = POWERS.length - 1; index >= 0; index--)
+            blackhole.consume(AmountInWords.Triads.triad(triads, index));
+        blackhole.consume(AmountInWords.Triads.fraction(triads));
+    }
+}
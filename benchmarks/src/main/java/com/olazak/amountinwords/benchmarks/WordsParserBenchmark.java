@@ -0,0 +1,60 @@
+package com.olazak.amountinwords.benchmarks;
+
+import com.olazak.amountinwords.AmountInWords;
+import com.olazak.amountinwords.AmountWordsParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AmountWordsParser} throughput over words of the {@link Amounts} distributions,
+ * the words are formatted in the setup so only parsing is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordsParserBenchmark {
+    @Param({"RETAIL", "PAYROLL", "NEAR_CAP", "TREASURY"})
+    public Amounts distribution;
+
+    @Param({"UAH:UA", "USD:ENG"})
+    public String currencyLanguage;
+
+    private String[] words;
+    private AmountWordsParser parser;
+
+    @Setup
+    public void setUp() {
+        String[] parts = currencyLanguage.split(":");
+        AmountInWords.Currency currency = AmountInWords.Currency.byName(parts[0]);
+        parser = new AmountWordsParser(currency, parts[1]);
+
+        long[] amounts = distribution.sample();
+        words = new String[amounts.length];
+        for (int i = 0; i < amounts.length; i++)
+            words[i] = AmountInWords.format(amounts[i], currency, parts[1]);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Benchmark
+    public long parse(Cursor cursor) {
+        return parser.parse(words[cursor.index++ & (Amounts.SIZE - 1)]);
+    }
+}
@@ -0,0 +1,186 @@
+package com.olazak.amountinwords;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Parses many amounts from bytes into a {@code long[]} column of cents, ready for
+ * {@link AmountInWords#format(long[], Object, String, String[])}.
+ * <p>
+ * Amounts are written as for {@link AmountParser}, one per line or in records of fixed width.
+ * Digits are read eight at a time as one little-endian {@code long} (SWAR), line breaks are found the same way.
+ * Amounts with separators in the integer part, with more than 16 integer digits or malformed ones
+ * go through {@link AmountParser}, so results and errors are the same. Errors are reported with the line number.
+ * <p>
+ * Keeps position and line count between calls, so a parser is used by one thread over one input.
+ */
+public final class AmountColumnParser {
+    private static final int MAX_LINE_LENGTH = 4096;
+
+    // Integer parts up to this many digits cannot overflow a long of cents.
+    private static final int MAX_FAST_DIGITS = 16;
+
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LINE_FEEDS = 0x0A0A0A0A0A0A0A0AL;
+    private static final long[] POWERS = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000};
+
+    private final AmountParser parser;
+    private final int separator;
+    private int position;
+    private long lines;
+
+    public AmountColumnParser(String language) {
+        this(AmountParser.forLanguage(language));
+    }
+
+    public AmountColumnParser(AmountParser parser) {
+        this.parser = parser;
+        this.separator = parser.getSeparator();
+    }
+
+    /** Position after the last line or record parsed. */
+    public int getPosition() {
+        return position;
+    }
+
+    /** Number of lines or records parsed so far, blank lines included. */
+    public long getLines() {
+        return lines;
+    }
+
+    public int parseLines(byte[] bytes, int from, int to, long[] column, int offset) {
+        return parseLines(ByteBuffer.wrap(bytes), from, to, column, offset);
+    }
+
+    /**
+     * Parses lines between absolute positions of the buffer into the column from {@code offset}, blank lines are skipped.
+     * Stops when the column is full, see {@link #getPosition()}. The last line does not need a line break.
+     * Returns number of parsed amounts, position of the buffer is not changed.
+     */
+    public int parseLines(ByteBuffer buffer, int from, int to, long[] column, int offset) {
+        ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int count = offset;
+        int i = from;
+        while (i < to && count < column.length) {
+            int end = lineEnd(bytes, i, to);
+            int lineTo = end > i && bytes.get(end - 1) == '\r' ? end - 1 : end;
+            lines++;
+            if (lineTo > i) column[count++] = parseAmount(bytes, i, lineTo);
+            i = end < to ? end + 1 : to;
+        }
+        position = i;
+        return count - offset;
+    }
+
+    public void parseFixed(byte[] bytes, int from, int width, int count, long[] column, int offset) {
+        parseFixed(ByteBuffer.wrap(bytes), from, width, count, column, offset);
+    }
+
+    /**
+     * Parses {@code count} records of {@code width} bytes into the column from {@code offset}.
+     * Amounts are aligned to the right and padded on the left with spaces or zeros, a record may end with a line break.
+     */
+    public void parseFixed(ByteBuffer buffer, int from, int width, int count, long[] column, int offset) {
+        ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        for (int record = 0; record < count; record++) {
+            int start = from + record * width;
+            int end = start + width;
+            if (end > start && bytes.get(end - 1) == '\n') end--;
+            if (end > start && bytes.get(end - 1) == '\r') end--;
+            start = skipPadding(bytes, start, end);
+
+            lines++;
+            column[offset + record] = parseAmount(bytes, start, end);
+        }
+        position = from + count * width;
+    }
+
+    private long parseAmount(ByteBuffer bytes, int from, int to) {
+        int digits = to - from - 3;
+        if (digits < 1 || digits > MAX_FAST_DIGITS || bytes.get(to - 3) != separator) return parseSlow(bytes, from, to);
+
+        int tens = bytes.get(to - 2) - '0';
+        int units = bytes.get(to - 1) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) return parseSlow(bytes, from, to);
+
+        long amount = 0;
+        int i = from;
+        int integerTo = to - 3;
+        for (; integerTo - i >= 8; i += 8) {
+            long chunk = bytes.getLong(i);
+            if (!isDigits(chunk)) return parseSlow(bytes, from, to);
+            amount = amount * 100000000 + digits(chunk);
+        }
+
+        int rest = integerTo - i;
+        if (rest > 0) {
+            if (i + 8 <= bytes.limit()) {
+                // Bytes after the integer part are shifted out and replaced by leading zeros.
+                int shift = (8 - rest) * 8;
+                long chunk = bytes.getLong(i) << shift | ZEROS >>> (64 - shift);
+                if (!isDigits(chunk)) return parseSlow(bytes, from, to);
+                amount = amount * POWERS[rest] + digits(chunk);
+            } else {
+                for (; i < integerTo; i++) {
+                    int digit = bytes.get(i) - '0';
+                    if (digit < 0 || digit > 9) return parseSlow(bytes, from, to);
+                    amount = amount * 10 + digit;
+                }
+            }
+        }
+        return amount * 100 + tens * 10 + units;
+    }
+
+    private long parseSlow(ByteBuffer bytes, int from, int to) {
+        if (to - from > MAX_LINE_LENGTH)
+            throw new IllegalArgumentException("Line " + lines + " is longer than " + MAX_LINE_LENGTH + " bytes");
+        try {
+            return parser.parse(bytes, from, to);
+        } catch (AmountParser.InvalidAmountException e) {
+            throw new IllegalArgumentException("Line " + lines + ": " + e.getMessage(), e);
+        }
+    }
+
+    /** Returns position of the first line feed between {@code from} and {@code to}, {@code to} if there is none. */
+    private static int lineEnd(ByteBuffer bytes, int from, int to) {
+        int i = from;
+        for (; to - i >= 8; i += 8) {
+            long chunk = bytes.getLong(i) ^ LINE_FEEDS;
+            long found = (chunk - LOW_BITS) & ~chunk & HIGH_BITS;
+            if (found != 0) return i + (Long.numberOfTrailingZeros(found) >>> 3);
+        }
+        for (; i < to; i++)
+            if (bytes.get(i) == '\n') return i;
+        return to;
+    }
+
+    /** Skips spaces and zeros on the left, keeping the last integer digit and the fraction. */
+    private static int skipPadding(ByteBuffer bytes, int from, int to) {
+        int i = from;
+        int last = to - 4;
+        for (; last - i >= 8; i += 8) {
+            // Spaces and zeros become zero bytes, the first other byte ends the padding.
+            long chunk = (bytes.getLong(i) | 0x1010101010101010L) ^ ZEROS;
+            long found = (((chunk & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL) | chunk) & HIGH_BITS;
+            if (found != 0) return i + (Long.numberOfTrailingZeros(found) >>> 3);
+        }
+        while (i < last && (bytes.get(i) == ' ' || bytes.get(i) == '0')) i++;
+        return i;
+    }
+
+    /** Whether all eight bytes are ASCII digits. */
+    private static boolean isDigits(long chunk) {
+        return ((chunk & HIGH_NIBBLES) | (((chunk + 0x0606060606060606L) & HIGH_NIBBLES) >>> 4)) == 0x3333333333333333L;
+    }
+
+    /** Value of eight ASCII digits, the first digit in the lowest byte. */
+    private static long digits(long chunk) {
+        long value = chunk - ZEROS;
+        value = value * 10 + (value >>> 8);
+        return (((value & 0x000000FF000000FFL) * (100 + (1000000L << 32)))
+                + (((value >>> 16) & 0x000000FF000000FFL) * (1 + (10000L << 32)))) >>> 32;
+    }
+}
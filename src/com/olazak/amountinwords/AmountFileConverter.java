@@ -0,0 +1,129 @@
+package com.olazak.amountinwords;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Converts a file of amounts, one per line, into a UTF-8 file of amounts in words.
+ * <p>
+ * Amounts are written the same way as in the console: {@code 1234,56} for UA and {@code 1234.56} for ENG,
+ * see {@link AmountParser}. Input is memory-mapped window by window and parsed straight from the mapped bytes
+ * into a column of amounts, see {@link AmountColumnParser},
+ * output goes through one direct buffer, so memory use does not depend on the file size.
+ */
+public final class AmountFileConverter {
+    private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 1024 * 1024;
+    private static final int COLUMN_SIZE = 4096;
+
+    private final Object currency;
+    private final LanguageRenderer language;
+    private final AmountParser parser;
+
+    public <T> AmountFileConverter(T currency, String language) {
+        this.currency = currency;
+        this.language = AmountInWords.getLanguage(language);
+        this.parser = AmountParser.forLanguage(language);
+    }
+
+    public Report convert(Path input, Path output) throws IOException {
+        long started = System.nanoTime();
+        long rows = 0;
+        AmountColumnParser columnParser = new AmountColumnParser(parser);
+        long[] column = new long[COLUMN_SIZE];
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            Writer writer = new Writer(out);
+
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(WINDOW_SIZE, size - position);
+                MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                // Only whole lines of a window are parsed, the rest starts the next window.
+                int end = window.limit();
+                if (position + length < size) {
+                    while (end > 0 && window.get(end - 1) != '\n') end--;
+                    if (end == 0)
+                        throw new IOException("Line " + (columnParser.getLines() + 1) + " is longer than " + WINDOW_SIZE + " bytes");
+                }
+
+                for (int from = 0; from < end; from = columnParser.getPosition()) {
+                    int count = columnParser.parseLines(window, from, end, column, 0);
+                    for (int i = 0; i < count; i++)
+                        writer.write(column[i]);
+                    rows += count;
+                }
+                position += end;
+            }
+            writer.flush();
+        }
+        return new Report(rows, System.nanoTime() - started);
+    }
+
+    /** Puts words of amounts encoded in UTF-8 into a direct buffer and writes it to the channel when full. */
+    private final class Writer {
+        final FileChannel channel;
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+
+        Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void write(long amount) throws IOException {
+            int start = buffer.position();
+            try {
+                AmountInWords.format(amount, currency, language, buffer).put((byte) '\n');
+            } catch (BufferOverflowException e) {
+                buffer.position(start);
+                drain();
+                AmountInWords.format(amount, currency, language, buffer).put((byte) '\n');
+            }
+        }
+
+        void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            buffer.clear();
+        }
+    }
+
+    public static final class Report {
+        private final long rows;
+        private final long nanos;
+
+        Report(long rows, long nanos) {
+            this.rows = rows;
+            this.nanos = nanos;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public double getRowsPerSecond() {
+            return nanos == 0 ? 0 : rows * 1e9 / nanos;
+        }
+
+        public String toString() {
+            return String.format("%d rows in %.3f s, %.0f rows/sec", rows, nanos / 1e9, getRowsPerSecond());
+        }
+    }
+}
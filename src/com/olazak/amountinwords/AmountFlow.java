@@ -0,0 +1,35 @@
+package com.olazak.amountinwords;
+
+/**
+ * Interfaces of reactive streams with the same methods and rules as {@code java.util.concurrent.Flow},
+ * declared here because the project targets Java 8. A subscriber signals demand with
+ * {@link Subscription#request(long)} and a publisher never sends more items than requested.
+ * Adapting them to {@code Flow} is plain delegation.
+ */
+public final class AmountFlow {
+    public static interface Publisher<T> {
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    public static interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    public static interface Subscription {
+        void request(long n);
+
+        void cancel();
+    }
+
+    public static interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+
+    private AmountFlow() {
+    }
+}
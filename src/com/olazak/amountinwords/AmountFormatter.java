@@ -0,0 +1,74 @@
+package com.olazak.amountinwords;
+
+/**
+ * Reusable formatting context with currency and language resolved once and a char buffer
+ * sized for the longest amount, so that formatting allocates nothing after warm-up.
+ * <p>
+ * The formatter is not thread-safe: keep one per thread, for example in {@link #threadLocal(Object, String)}.
+ * Currency is resolved through the currency mapping when the formatter is created,
+ * later changes of the mapping or of registered currencies do not affect it.
+ */
+public final class AmountFormatter {
+    private final CurrencyRenderer renderer;
+    private final char[] buffer;
+    private final Words words = new Words();
+    private int length;
+
+    public <T> AmountFormatter(T currency, String language) {
+        this(AmountInWords.getRenderer(currency, language));
+    }
+
+    public <T> AmountFormatter(T currency, LanguageRenderer language) {
+        this(AmountInWords.getRenderer(currency, language));
+    }
+
+    public AmountFormatter(CurrencyRenderer renderer) {
+        this.renderer = renderer;
+        this.buffer = new char[renderer.getMaxLength()];
+    }
+
+    /** Returns formatter per thread, created on first use in every thread. */
+    public static <T> ThreadLocal<AmountFormatter> threadLocal(final T currency, final String language) {
+        return ThreadLocal.withInitial(() -> new AmountFormatter(currency, language));
+    }
+
+    /**
+     * Formats amount in cents. Returned view is backed by the buffer of the formatter
+     * and is only valid until the next call of {@code format}.
+     */
+    public CharSequence format(long amount) {
+        AmountInWords.checkAmount(amount);
+        length = renderer.appendAmount(buffer, 0, amount);
+        return words;
+    }
+
+    /** Copies words of the last formatted amount to {@code destination}, returns number of copied chars. */
+    public int copyTo(char[] destination, int offset) {
+        System.arraycopy(buffer, 0, destination, offset, length);
+        return length;
+    }
+
+    /** Length of words of the last formatted amount. */
+    public int length() {
+        return length;
+    }
+
+    private final class Words implements CharSequence {
+        public int length() {
+            return length;
+        }
+
+        public char charAt(int index) {
+            if (index < 0 || index >= length) throw new IndexOutOfBoundsException("Index " + index + " of " + length);
+            return buffer[index];
+        }
+
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        public String toString() {
+            return new String(buffer, 0, length);
+        }
+    }
+}
@@ -0,0 +1,797 @@
+package com.olazak.amountinwords;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+public final class AmountInWords {
+    public static class Currency {
+        protected int code;
+        protected String name;
+
+        protected String oneInteger, twoIntegers, fiveIntegers;
+        protected Sex integerSex;
+
+        protected String oneFraction, twoFractions, fiveFractions;
+        protected Sex fractionSex;
+
+        public static Currency byCode(int code) {
+            return registry.get().byCode(code);
+        }
+
+        public static Currency byCode(String code) {
+            return byCode(Integer.parseInt(code));
+        }
+
+        public static Currency byName(String name) {
+            return registry.get().byName(name);
+        }
+
+        public Currency(int code, String name) {
+            this.code = code;
+            this.name = name;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        // Compiled renderers of this currency, one per language, see CurrencyRenderer.of.
+        volatile CurrencyRenderer[] renderers = new CurrencyRenderer[0];
+
+        public boolean equals(Object o) {
+            return (o instanceof Currency) && code == ((Currency) o).code;
+        }
+
+        public int hashCode() {
+            return code;
+        }
+
+        public String toString() {
+            return code + ":" + name;
+        }
+    }
+
+    public static enum Sex {MALE, FEMALE}
+
+    /**
+     * Splits amount in cents into fraction and triads of the integer part in one pass.
+     * Triads are packed into a single {@code long}: fraction takes the lowest 7 bits,
+     * every next triad (units, thousands, millions, ...) takes 10 bits.
+     */
+    public static final class Triads {
+        public static final int FRACTION_BITS = 7;
+        public static final int TRIAD_BITS = 10;
+        public static final int MAX_TRIADS = (Long.SIZE - FRACTION_BITS) / TRIAD_BITS + 1;
+
+        private static final long FRACTION_MASK = (1L << FRACTION_BITS) - 1;
+        private static final long TRIAD_MASK = (1L << TRIAD_BITS) - 1;
+
+        public static long split(long amount) {
+            if (amount < 0) throw new IllegalArgumentException("Amount " + amount + " is negative");
+
+            long integer = amount / 100;
+            long triads = amount - integer * 100;
+            for (int shift = FRACTION_BITS; integer != 0; shift += TRIAD_BITS) {
+                long next = integer / 1000;
+                triads |= (integer - next * 1000) << shift;
+                integer = next;
+            }
+            return triads;
+        }
+
+        public static int fraction(long triads) {
+            return (int) (triads & FRACTION_MASK);
+        }
+
+        /**
+         * Splits amount in cents of any magnitude into fraction at index 0 and triads of the integer part
+         * starting from units at index 1, there is always at least the units triad.
+         */
+        public static int[] split(BigInteger amount) {
+            if (amount.signum() < 0) throw new IllegalArgumentException("Amount " + amount + " is negative");
+
+            BigInteger[] integer = amount.divideAndRemainder(HUNDRED);
+            int[] triads = new int[1 + CHUNK_TRIADS * (integer[0].bitLength() / 59 + 1)];
+            triads[0] = integer[1].intValue();
+
+            int count = 1;
+            BigInteger rest = integer[0];
+            do {
+                BigInteger[] chunk = rest.divideAndRemainder(TRIADS_CHUNK);
+                rest = chunk[0];
+                long value = chunk[1].longValue();
+                for (int i = 0; i < CHUNK_TRIADS; i++) {
+                    triads[count++] = (int) (value % 1000);
+                    value /= 1000;
+                }
+            } while (rest.signum() != 0);
+
+            while (count > 2 && triads[count - 1] == 0) count--;
+            return Arrays.copyOf(triads, count);
+        }
+
+        private static final BigInteger HUNDRED = BigInteger.valueOf(100);
+        private static final int CHUNK_TRIADS = 6;
+        private static final BigInteger TRIADS_CHUNK = BigInteger.TEN.pow(CHUNK_TRIADS * 3);
+
+        /** Triad of the integer part, 0 is units, 1 is thousands, 2 is millions and so on. */
+        public static int triad(long triads, int index) {
+            return (int) (triads >>> (FRACTION_BITS + index * TRIAD_BITS) & TRIAD_MASK);
+        }
+
+        /** All triads above {@code index} as they are packed, 0 when the integer part has no such triads. */
+        public static long above(long triads, int index) {
+            if (index >= MAX_TRIADS - 1) return 0;
+            return triads >>> (FRACTION_BITS + (index + 1) * TRIAD_BITS);
+        }
+
+        // Index of the units phrase of amounts which units triad is 0 and higher triads are not, see unitsPhrase.
+        static final int UNIT_ONLY = 1000;
+
+        /**
+         * Highest scale below {@code scale} with a non-zero triad, 0 when there is none. Words of an amount
+         * are scale phrases from {@code nextScale(triads, MAX_TRIADS)} down, then the units phrase and cents.
+         */
+        static int nextScale(long triads, int scale) {
+            while (--scale > 0)
+                if (triad(triads, scale) != 0) return scale;
+            return 0;
+        }
+
+        /** Units triad, or {@link #UNIT_ONLY} when it is 0 and higher triads are not, so only the unit word is written. */
+        static int unitsPhrase(long triads) {
+            int units = triad(triads, 0);
+            return units == 0 && above(triads, 0) != 0 ? UNIT_ONLY : units;
+        }
+
+        private Triads() {
+        }
+    }
+
+    public static interface CurrencyMapping<T> {
+        Currency getCurrency(T currency);
+    }
+
+    private static final class DefaultCurrencyMapping implements CurrencyMapping<Currency> {
+        public Currency getCurrency(Currency currency) {
+            return currency;
+        }
+    }
+
+    public static final Currency UAH = new Currency(980, "UAH") {{
+        oneInteger = ONE_UAH_INTEGER;
+        twoIntegers = TWO_UAH_INTEGER;
+        fiveIntegers = FIVE_UAH_INTEGER;
+        integerSex = Sex.FEMALE;
+
+        oneFraction = ONE_UAH_FRACTION;
+        twoFractions = TWO_UAH_FRACTION;
+        fiveFractions = FIVE_UAH_FRACTION;
+        fractionSex = Sex.FEMALE;
+    }};
+
+    public static final Currency USD = new Currency(840, "USD") {{
+        oneInteger = ONE_USD_INTEGER;
+        twoIntegers = TWO_USD_INTEGER;
+        oneFraction = ONE_USD_FRACTION;
+        twoFractions = TWO_USD_FRACTION;
+    }};
+
+    /**
+     * Immutable snapshot of registered currencies. Codes 0..999 of ISO 4217 are looked up in a dense array,
+     * names of three capital letters in a dense array indexed by the letters, anything else falls back to maps.
+     * The next snapshot copies the indexes of the previous one and changes only the slots of changed currencies.
+     */
+    private static final class Registry {
+        static final int CODES = 1000;
+        static final int LETTERS = 26;
+
+        final Currency[] list;
+        final Currency[] byCode;
+        final Currency[] byName;
+        final Map<Integer, Currency> otherCodes;
+        final Map<String, Currency> otherNames;
+
+        Registry(Currency... currencies) {
+            this(currencies, new Currency[CODES], new Currency[LETTERS * LETTERS * LETTERS],
+                    new HashMap<Integer, Currency>(), new HashMap<String, Currency>());
+            for (Currency c : currencies)
+                index(c, c);
+        }
+
+        private Registry(Currency[] list, Currency[] byCode, Currency[] byName,
+                         Map<Integer, Currency> otherCodes, Map<String, Currency> otherNames) {
+            this.list = list;
+            this.byCode = byCode;
+            this.byName = byName;
+            this.otherCodes = otherCodes;
+            this.otherNames = otherNames;
+        }
+
+        static int nameIndex(String name) {
+            if (name == null || name.length() != 3) return -1;
+
+            int index = 0;
+            for (int i = 0; i < 3; i++) {
+                int letter = name.charAt(i) - 'A';
+                if (letter < 0 || letter >= LETTERS) return -1;
+                index = index * LETTERS + letter;
+            }
+            return index;
+        }
+
+        Currency byCode(int code) {
+            if (code >= 0 && code < CODES) return byCode[code];
+            return otherCodes.isEmpty() ? null : otherCodes.get(code);
+        }
+
+        Currency byName(String name) {
+            int index = nameIndex(name);
+            if (index >= 0) return byName[index];
+            return otherNames.isEmpty() ? null : otherNames.get(name);
+        }
+
+        /** Returns snapshot with the currencies added, throws IllegalStateException if a code or a name is taken. */
+        Registry with(Currency... currencies) {
+            Currency[] next = Arrays.copyOf(list, list.length + currencies.length);
+            System.arraycopy(currencies, 0, next, list.length, currencies.length);
+
+            Registry registry = copy(next);
+            for (Currency c : currencies) {
+                if (registry.byCode(c.getCode()) != null || registry.byName(c.getName()) != null)
+                    throw new IllegalStateException("Currency " + c + " already registered");
+                registry.index(c, c);
+            }
+            return registry;
+        }
+
+        Registry without(Currency currency) {
+            for (int i = 0; i < list.length; i++) {
+                if (!list[i].equals(currency)) continue;
+
+                Currency[] next = new Currency[list.length - 1];
+                System.arraycopy(list, 0, next, 0, i);
+                System.arraycopy(list, i + 1, next, i, list.length - i - 1);
+
+                Registry registry = copy(next);
+                registry.index(list[i], null);
+                return registry;
+            }
+            return this;
+        }
+
+        private Registry copy(Currency[] list) {
+            return new Registry(list, byCode.clone(), byName.clone(),
+                    new HashMap<Integer, Currency>(otherCodes), new HashMap<String, Currency>(otherNames));
+        }
+
+        /** Puts the value into slots of the currency code and name, null clears them. Only for snapshots not yet published. */
+        private void index(Currency c, Currency value) {
+            if (c.getCode() >= 0 && c.getCode() < CODES) byCode[c.getCode()] = value;
+            else if (value != null) otherCodes.put(c.getCode(), value);
+            else otherCodes.remove(c.getCode());
+
+            int index = nameIndex(c.getName());
+            if (index >= 0) byName[index] = value;
+            else if (value != null) otherNames.put(c.getName(), value);
+            else otherNames.remove(c.getName());
+        }
+    }
+
+    // Writers build the next snapshot and publish it with compareAndSet, retrying when another writer won,
+    // so a duplicate check always holds for the snapshot it replaces.
+    private static final AtomicReference<Registry> registry = new AtomicReference<Registry>(new Registry(UAH, USD));
+
+    public static void addCurrency(Currency currency) {
+        addCurrencies(currency);
+    }
+
+    /**
+     * Registers the currencies with one new snapshot, which is cheaper than adding them one by one.
+     * Nothing is registered if a currency is not properly initialized or its code or name is already registered.
+     */
+    public static void addCurrencies(Currency... currencies) {
+        Currency[] copies = new Currency[currencies.length];
+        for (int i = 0; i < currencies.length; i++)
+            copies[i] = copyOf(currencies[i]);
+        if (copies.length == 0) return;
+
+        while (true) {
+            Registry current = registry.get();
+            if (registry.compareAndSet(current, current.with(copies))) break;
+        }
+        invalidateCache();
+    }
+
+    private static Currency copyOf(Currency currency) {
+        if (currency == null) throw new NullPointerException("Currency is null");
+
+        if (currency.oneInteger == null
+                || currency.twoIntegers == null
+                || currency.fiveIntegers == null
+                || currency.integerSex == null
+                || currency.oneFraction == null
+                || currency.twoFractions == null
+                || currency.fiveFractions == null
+                || currency.fractionSex == null)
+            throw new NullPointerException("Currency " + currency + " is not properly initialized");
+
+        Currency copy = new Currency(currency.getCode(), currency.getName());
+        copy.oneInteger = currency.oneInteger;
+        copy.twoIntegers = currency.twoIntegers;
+        copy.fiveIntegers = currency.fiveIntegers;
+        copy.integerSex = currency.integerSex;
+        copy.oneFraction = currency.oneFraction;
+        copy.twoFractions = currency.twoFractions;
+        copy.fiveFractions = currency.fiveFractions;
+        copy.fractionSex = currency.fractionSex;
+        return copy;
+    }
+
+    public static void removeCurrency(Currency currency) {
+        while (true) {
+            Registry current = registry.get();
+            Registry next = current.without(currency);
+            if (next == current) return;
+            if (registry.compareAndSet(current, next)) break;
+        }
+        invalidateCache();
+    }
+
+    /** Returns unmodifiable snapshot of currencies registered at the moment of the call. */
+    public static List<Currency> getCurrencies() {
+        return Collections.unmodifiableList(Arrays.asList(registry.get().list));
+    }
+
+    private static volatile CurrencyMapping<?> currencyMapping = new DefaultCurrencyMapping();
+
+    public static CurrencyMapping getCurrencyMapping() {
+        return currencyMapping;
+    }
+
+    public static void setCurrencyMapping(CurrencyMapping mapping) {
+        if (mapping == null) currencyMapping = new DefaultCurrencyMapping();
+        else currencyMapping = mapping;
+        invalidateCache();
+    }
+
+    private static volatile FormatCache cache;
+
+    public static FormatCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Installs cache of formatted amounts used by {@link #format(long, Object, String)},
+     * {@code null} turns caching off. Cache is off by default.
+     */
+    public static void setCache(FormatCache formatCache) {
+        cache = formatCache;
+    }
+
+    private static void invalidateCache() {
+        FormatCache formatCache = cache;
+        if (formatCache != null) formatCache.invalidateAll();
+    }
+
+    /** Returns metrics of format calls, {@code null} unless enabled with {@code -Damountinwords.metrics=true}. */
+    public static FormatMetrics getMetrics() {
+        return FormatMetrics.INSTANCE;
+    }
+
+    private static long startCall() {
+        return FormatMetrics.ENABLED ? System.nanoTime() : 0;
+    }
+
+    private static void endCall(Currency c, LanguageRenderer language, long started) {
+        if (FormatMetrics.ENABLED) FormatMetrics.INSTANCE.recordCall(c, language, started);
+    }
+
+    private static RuntimeException failCall(RuntimeException e) {
+        if (FormatMetrics.ENABLED) FormatMetrics.INSTANCE.recordFailure(e);
+        return e;
+    }
+
+    public static <T> String format(long amount, T currency, String language) {
+        long started = startCall();
+        try {
+            checkAmount(amount);
+
+            Currency c = resolveCurrency(currency);
+            LanguageRenderer lang = resolveLanguage(language);
+            String words = render(amount, c, lang);
+            endCall(c, lang, started);
+            return words;
+        } catch (RuntimeException e) {
+            throw failCall(e);
+        }
+    }
+
+    /** Same as {@link #format(long, Object, String)} with already resolved language. */
+    public static <T> String format(long amount, T currency, LanguageRenderer language) {
+        long started = startCall();
+        try {
+            checkAmount(amount);
+
+            Currency c = resolveCurrency(currency);
+            String words = render(amount, c, language);
+            endCall(c, language, started);
+            return words;
+        } catch (RuntimeException e) {
+            throw failCall(e);
+        }
+    }
+
+    private static String render(long amount, Currency c, LanguageRenderer language) {
+        FormatCache cache = AmountInWords.cache;
+        if (cache != null) {
+            String words = cache.get(amount, c, language);
+            if (words != null) return words;
+        }
+
+        StringBuilder amountInWords = new StringBuilder(128);
+        appendAmount(amountInWords, amount, c, language);
+        String words = amountInWords.toString();
+
+        if (cache != null) cache.put(amount, c, language, words);
+        return words;
+    }
+
+    /**
+     * Formats amount in cents of any magnitude. Amounts which fit into {@code long} are formatted
+     * the same way as by {@link #format(long, Object, String)}, larger ones use all scales of the language.
+     */
+    public static <T> String format(BigInteger amount, T currency, String language) {
+        long started = startCall();
+        try {
+            checkAmount(amount);
+
+            Currency c = resolveCurrency(currency);
+            LanguageRenderer lang = resolveLanguage(language);
+
+            StringBuilder amountInWords = new StringBuilder(256);
+            if (lang != null) lang.appendAmount(amountInWords, amount, c);
+            endCall(c, lang, started);
+            return amountInWords.toString();
+        } catch (RuntimeException e) {
+            throw failCall(e);
+        }
+    }
+
+    /**
+     * Formats amount of any magnitude given in units of the currency, like {@code 1234.56}.
+     *
+     * @throws ArithmeticException if the amount has non-zero digits after cents
+     */
+    public static <T> String format(BigDecimal amount, T currency, String language) {
+        return format(amount.movePointRight(2).toBigIntegerExact(), currency, language);
+    }
+
+    /** Appends amount in words to {@code out} instead of creating a new String. */
+    public static <T> StringBuilder format(long amount, T currency, String language, StringBuilder out) {
+        long started = startCall();
+        try {
+            checkAmount(amount);
+
+            Currency c = resolveCurrency(currency);
+            LanguageRenderer lang = resolveLanguage(language);
+            appendAmount(out, amount, c, lang);
+            endCall(c, lang, started);
+            return out;
+        } catch (RuntimeException e) {
+            throw failCall(e);
+        }
+    }
+
+    /** Appends amount in words to {@code out} instead of creating a new String. */
+    public static <T> StringBuilder format(long amount, T currency, LanguageRenderer language, StringBuilder out) {
+        long started = startCall();
+        try {
+            checkAmount(amount);
+
+            Currency c = resolveCurrency(currency);
+            appendAmount(out, amount, c, language);
+            endCall(c, language, started);
+            return out;
+        } catch (RuntimeException e) {
+            throw failCall(e);
+        }
+    }
+
+    /** Appends amount in words to {@code out} instead of creating a new String. */
+    public static <T> Appendable format(long amount, T currency, String language, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) return format(amount, currency, language, (StringBuilder) out);
+
+        return out.append(format(amount, currency, language));
+    }
+
+    /**
+     * Puts amount in words encoded in UTF-8 into {@code out}. Phrases are encoded once,
+     * so nothing is encoded per call. When the words do not fit, position of {@code out}
+     * is left unchanged and {@link BufferOverflowException} is thrown.
+     */
+    public static <T> ByteBuffer format(long amount, T currency, String language, ByteBuffer out) {
+        long started = startCall();
+        try {
+            checkAmount(amount);
+
+            Currency c = resolveCurrency(currency);
+            LanguageRenderer lang = resolveLanguage(language);
+            render(amount, c, lang, out);
+            endCall(c, lang, started);
+            return out;
+        } catch (RuntimeException e) {
+            throw failCall(e);
+        }
+    }
+
+    /** Same as {@link #format(long, Object, String, ByteBuffer)} with already resolved language. */
+    public static <T> ByteBuffer format(long amount, T currency, LanguageRenderer language, ByteBuffer out) {
+        long started = startCall();
+        try {
+            checkAmount(amount);
+
+            Currency c = resolveCurrency(currency);
+            render(amount, c, language, out);
+            endCall(c, language, started);
+            return out;
+        } catch (RuntimeException e) {
+            throw failCall(e);
+        }
+    }
+
+    private static ByteBuffer render(long amount, Currency c, LanguageRenderer language, ByteBuffer out) {
+        int start = out.position();
+        try {
+            putAmount(out, amount, c, language);
+        } catch (BufferOverflowException e) {
+            out.position(start);
+            throw e;
+        }
+        return out;
+    }
+
+    /**
+     * Formats every amount into {@code result} at the same index.
+     * Currency and language are resolved once for the whole batch.
+     */
+    public static <T> void format(long[] amounts, T currency, String language, String[] result) {
+        if (result.length < amounts.length)
+            throw new IllegalArgumentException("Result holds " + result.length + " of " + amounts.length + " amounts");
+
+        Currency c = resolveCurrency(currency);
+        LanguageRenderer lang = resolveLanguage(language);
+
+        formatRange(amounts, 0, amounts.length, c, lang, result);
+    }
+
+    /**
+     * Formats every amount into {@code result} at the same index splitting the work across
+     * the common fork/join pool. Order of results is the same as of the sequential batch.
+     */
+    public static <T> void formatParallel(long[] amounts, T currency, String language, String[] result) {
+        formatParallel(amounts, currency, language, result, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Formats every amount into {@code result} at the same index splitting the work across {@code pool}.
+     * Order of results is the same as of the sequential batch.
+     */
+    public static <T> void formatParallel(long[] amounts, T currency, String language, String[] result,
+                                          ForkJoinPool pool) {
+        if (result.length < amounts.length)
+            throw new IllegalArgumentException("Result holds " + result.length + " of " + amounts.length + " amounts");
+
+        Currency c = resolveCurrency(currency);
+        LanguageRenderer lang = resolveLanguage(language);
+
+        pool.invoke(new FormatTask(amounts, 0, amounts.length, c, lang, result));
+    }
+
+    private static void formatRange(long[] amounts, int from, int to, Currency c, LanguageRenderer language, String[] result) {
+        CurrencyRenderer renderer = language == null ? null : CurrencyRenderer.of(c, language);
+        StringBuilder amountInWords = new StringBuilder(128);
+        for (int i = from; i < to; i++) {
+            checkAmount(amounts[i]);
+            amountInWords.setLength(0);
+            if (renderer != null) renderer.appendAmount(amountInWords, amounts[i]);
+            result[i] = amountInWords.toString();
+        }
+    }
+
+    /**
+     * Splits range of amounts in halves down to {@link #THRESHOLD}, every leaf formats
+     * its own range with a builder confined to the worker thread.
+     */
+    private static final class FormatTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        static final int THRESHOLD = 4096;
+
+        final long[] amounts;
+        final int from;
+        final int to;
+        final Currency currency;
+        final LanguageRenderer language;
+        final String[] result;
+
+        FormatTask(long[] amounts, int from, int to, Currency currency, LanguageRenderer language, String[] result) {
+            this.amounts = amounts;
+            this.from = from;
+            this.to = to;
+            this.currency = currency;
+            this.language = language;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                formatRange(amounts, from, to, currency, language, result);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FormatTask(amounts, from, middle, currency, language, result),
+                    new FormatTask(amounts, middle, to, currency, language, result));
+        }
+    }
+
+    /**
+     * Writes every amount followed by a line break to {@code out}.
+     * Currency and language are resolved once for the whole batch.
+     */
+    public static <T> void format(long[] amounts, T currency, String language, Appendable out) throws IOException {
+        format(LongStream.of(amounts), currency, language, out);
+    }
+
+    /**
+     * Writes every amount of the stream followed by a line break to {@code out}.
+     * Currency and language are resolved once for the whole batch, words are collected
+     * into a reused buffer and passed to {@code out} in large chunks.
+     */
+    public static <T> void format(LongStream amounts, T currency, String language, Appendable out) throws IOException {
+        Currency c = resolveCurrency(currency);
+        LanguageRenderer lang = resolveLanguage(language);
+        CurrencyRenderer renderer = lang == null ? null : CurrencyRenderer.of(c, lang);
+
+        StringBuilder buffer = out instanceof StringBuilder ? (StringBuilder) out : new StringBuilder(BATCH_BUFFER_SIZE);
+        PrimitiveIterator.OfLong iterator = amounts.iterator();
+        while (iterator.hasNext()) {
+            long amount = iterator.nextLong();
+            checkAmount(amount);
+            if (renderer != null) renderer.appendAmount(buffer, amount);
+            buffer.append('\n');
+
+            if (buffer != out && buffer.length() >= BATCH_BUFFER_SIZE) {
+                out.append(buffer);
+                buffer.setLength(0);
+            }
+        }
+        if (buffer != out) out.append(buffer);
+    }
+
+    private static final int BATCH_BUFFER_SIZE = 8192;
+
+    public static final LanguageRenderer UA = LanguageRenderer.compile(new UkrainianRules());
+    public static final LanguageRenderer ENG = LanguageRenderer.compile(new EnglishRules());
+
+    private static volatile LanguageRenderer[] languages = {UA, ENG};
+
+    /**
+     * Compiles and registers a language, so that it can be selected by name.
+     * Languages registered earlier take precedence when a name contains names of several languages.
+     */
+    public static LanguageRenderer addLanguage(LanguageRules rules) {
+        return addLanguage(LanguageRenderer.compile(rules));
+    }
+
+    /** Registers a compiled language, like one read with {@link LanguageRenderer#readFrom(java.io.InputStream)}. */
+    public static LanguageRenderer addLanguage(LanguageRenderer renderer) {
+        if (renderer == null) throw new NullPointerException("Language is null");
+        synchronized (LanguageRenderer.class) {
+            for (LanguageRenderer language : languages)
+                if (language.getName().equals(renderer.getName()))
+                    throw new IllegalStateException("Language " + renderer + " already registered");
+
+            LanguageRenderer[] registered = Arrays.copyOf(languages, languages.length + 1);
+            registered[languages.length] = renderer;
+            languages = registered;
+        }
+        invalidateCache();
+        return renderer;
+    }
+
+    /**
+     * Returns compiled language with the given name or, like names were always matched,
+     * the first language which name the given one contains; {@code null} if there is no such language.
+     */
+    public static LanguageRenderer getLanguage(String language) {
+        LanguageRenderer[] registered = languages;
+        for (LanguageRenderer renderer : registered)
+            if (renderer.getName().equals(language))
+                return renderer;
+        for (LanguageRenderer renderer : registered)
+            if (language.contains(renderer.getName()))
+                return renderer;
+        return null;
+    }
+
+    /**
+     * Returns currency compiled for the language, which formats amounts without resolving
+     * currency and language on every call.
+     *
+     * @throws IllegalArgumentException if the currency or the language is not found
+     */
+    public static <T> CurrencyRenderer getRenderer(T currency, String language) {
+        LanguageRenderer renderer = getLanguage(language);
+        if (renderer == null) throw new IllegalArgumentException("Language " + language + " is not found");
+        return getRenderer(currency, renderer);
+    }
+
+    /** Same as {@link #getRenderer(Object, String)} with already resolved language. */
+    public static <T> CurrencyRenderer getRenderer(T currency, LanguageRenderer language) {
+        if (language == null) throw new NullPointerException("Language is null");
+        return CurrencyRenderer.of(resolveCurrency(currency), language);
+    }
+
+    private static LanguageRenderer resolveLanguage(String language) {
+        return getLanguage(language);
+    }
+
+    static void checkAmount(long amount) {
+        if (amount < 0)
+            throw new UnsupportedOperationException("Negative amounts are not supported.");
+    }
+
+    private static void checkAmount(BigInteger amount) {
+        if (amount.signum() < 0)
+            throw new UnsupportedOperationException("Negative amounts are not supported.");
+    }
+
+    static <T> Currency resolveCurrency(T currency) {
+        @SuppressWarnings({"unchecked"})
+        Currency c = getCurrencyMapping().getCurrency(currency);
+
+        if (c == null)
+            throw new IllegalArgumentException("Currency " + currency + " is not found");
+        return c;
+    }
+
+    private static void appendAmount(StringBuilder amountInWords, long amount, Currency c, LanguageRenderer language) {
+        if (language != null) language.appendAmount(amountInWords, amount, c);
+    }
+
+    private static void putAmount(ByteBuffer out, long amount, Currency c, LanguageRenderer language) {
+        if (language != null) language.putAmount(out, amount, c);
+    }
+
+    private AmountInWords() {
+    }
+    private static final String ONE_UAH_INTEGER = "гривня";
+    private static final String TWO_UAH_INTEGER = "гривні";
+    private static final String FIVE_UAH_INTEGER = "гривень";
+    private static final String ONE_UAH_FRACTION = "копійка";
+    private static final String TWO_UAH_FRACTION = "копійки";
+    private static final String FIVE_UAH_FRACTION = "копійок";
+
+    private static final String ONE_USD_INTEGER = "dollar";
+    private static final String TWO_USD_INTEGER = "dollars";
+    private static final String ONE_USD_FRACTION = "cent";
+    private static final String TWO_USD_FRACTION = "cents";
+}
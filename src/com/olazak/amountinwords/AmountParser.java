@@ -0,0 +1,112 @@
+package com.olazak.amountinwords;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts amounts written as decimals into cents in a single pass without allocation.
+ * <p>
+ * Accepted amounts are digits with the language separator before exactly two digits of the fraction,
+ * {@code 1234,56} for UA and {@code 1234.56} for ENG. The separator may also appear in the integer part
+ * and is ignored there, so {@code 1,234,56} is the same as {@code 1234,56}.
+ */
+public final class AmountParser {
+    public static final AmountParser UA = new AmountParser(',');
+    public static final AmountParser ENG = new AmountParser('.');
+
+    private final char separator;
+
+    private AmountParser(char separator) {
+        this.separator = separator;
+    }
+
+    public static AmountParser forLanguage(String language) {
+        if (language.contains("UA")) return UA;
+        else if (language.contains("ENG")) return ENG;
+        throw new IllegalArgumentException("Language " + language + " is not supported");
+    }
+
+    /** Parser of a registered language, languages added with {@link AmountInWords#addLanguage} write amounts as ENG does. */
+    public static AmountParser forLanguage(LanguageRenderer language) {
+        return language.getName().contains("UA") ? UA : ENG;
+    }
+
+    public char getSeparator() {
+        return separator;
+    }
+
+    public long parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    public long parse(CharSequence text, int from, int to) {
+        checkLength(to - from);
+        checkFraction(to - from, text.charAt(to - 3), text.charAt(to - 2), text.charAt(to - 1));
+
+        long amount = 0;
+        for (int i = from; i < to; i++)
+            amount = accumulate(amount, text.charAt(i), i - from);
+        return amount;
+    }
+
+    public long parse(byte[] bytes, int from, int to) {
+        checkLength(to - from);
+        checkFraction(to - from, bytes[to - 3], bytes[to - 2], bytes[to - 1]);
+
+        long amount = 0;
+        for (int i = from; i < to; i++)
+            amount = accumulate(amount, bytes[i], i - from);
+        return amount;
+    }
+
+    /** Parses bytes between absolute positions of the buffer, position of the buffer is not changed. */
+    public long parse(ByteBuffer buffer, int from, int to) {
+        checkLength(to - from);
+        checkFraction(to - from, buffer.get(to - 3), buffer.get(to - 2), buffer.get(to - 1));
+
+        long amount = 0;
+        for (int i = from; i < to; i++)
+            amount = accumulate(amount, buffer.get(i), i - from);
+        return amount;
+    }
+
+    private static void checkLength(int length) {
+        if (length < 4)
+            throw new InvalidAmountException("Amount is too short, expected at least 4 characters", Math.max(length, 0));
+    }
+
+    private void checkFraction(int length, int separator, int tens, int units) {
+        if (separator != this.separator)
+            throw new InvalidAmountException("Expected '" + this.separator + "' before the fraction", length - 3);
+        if (tens == this.separator)
+            throw new InvalidAmountException("Expected digit in the fraction", length - 2);
+        if (units == this.separator)
+            throw new InvalidAmountException("Expected digit in the fraction", length - 1);
+    }
+
+    private long accumulate(long amount, int c, int position) {
+        if (c == separator) return amount;
+
+        int digit = c - '0';
+        if (digit < 0 || digit > 9)
+            throw new InvalidAmountException("Expected digit or '" + separator + "'", position);
+        if (amount > (Long.MAX_VALUE - digit) / 10)
+            throw new InvalidAmountException("Amount is too large", position);
+        return amount * 10 + digit;
+    }
+
+    /** Thrown for malformed amounts, position is counted from the start of the parsed text. */
+    public static final class InvalidAmountException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        private final int position;
+
+        InvalidAmountException(String message, int position) {
+            super(message + " at position " + position);
+            this.position = position;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.olazak.amountinwords;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP mode on the JDK built-in server, handlers run on a fixed pool of worker threads.
+ * <ul>
+ * <li>{@code GET /words?amount=1234,56&currency=UAH&lang=UA} answers with the words of one amount.</li>
+ * <li>{@code POST /words?currency=UAH&lang=UA} takes amounts one per line and streams words back one per line,
+ * a malformed amount is answered with a line starting with {@code ERROR} and the rest of the batch goes on.
+ * Lines are limited to {@value #MAX_LINE_LENGTH} characters and batches to {@value #MAX_BATCH_LINES} lines,
+ * a longer line or batch ends the response with status 413, or with an {@code ERROR} line when words are already sent.</li>
+ * </ul>
+ * Amounts are written as in the console, see {@link AmountParser}, languages added with
+ * {@link AmountInWords#addLanguage} take amounts as ENG does. Currency is a registered name or numeric code,
+ * UAH for UA and USD for ENG by default. Responses are UTF-8 plain text, bad requests get status 400.
+ * <p>
+ * The JDK server writes headers and short bodies separately, so with Nagle's algorithm every keep-alive
+ * request waits for the delayed ACK of the client. Run the JVM with {@code -Dsun.net.httpserver.nodelay=true},
+ * {@link Main} sets it for {@code --server} unless it is given.
+ */
+public final class AmountServer {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int INPUT_BUFFER_SIZE = 8 * 1024;
+    static final int MAX_LINE_LENGTH = 4 * 1024;
+    static final int MAX_BATCH_LINES = 1 << 20;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public AmountServer(InetSocketAddress address, int threads) throws IOException {
+        server = HttpServer.create(address, 0);
+        executor = Executors.newFixedThreadPool(threads, new WorkerFactory());
+        server.setExecutor(executor);
+        server.createContext("/words", new WordsHandler());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** Stops accepting requests and waits up to {@code delaySeconds} for running exchanges to finish. */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private static final class WordsHandler implements HttpHandler {
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                String method = exchange.getRequestMethod();
+                if (method.equals("GET")) {
+                    handleAmount(exchange, query);
+                } else if (method.equals("POST")) {
+                    handleBatch(exchange, query);
+                } else {
+                    exchange.getResponseHeaders().set("Allow", "GET, POST");
+                    respond(exchange, 405, "Method " + method + " is not allowed");
+                }
+            } catch (IllegalArgumentException | UnsupportedOperationException e) {
+                respond(exchange, 400, e.getMessage());
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private void handleAmount(HttpExchange exchange, Map<String, String> query) throws IOException {
+            Request request = new Request(query);
+            String amount = query.get("amount");
+            if (amount == null) throw new IllegalArgumentException("Parameter amount is required");
+
+            respond(exchange, 200, AmountInWords.format(request.parser.parse(amount), request.currency, request.language));
+        }
+
+        private void handleBatch(HttpExchange exchange, Map<String, String> query) throws IOException {
+            Request request = new Request(query);
+            LineReader in = new LineReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+            BatchWriter out = new BatchWriter(exchange);
+
+            String line;
+            for (int lines = 1; (line = in.readLine()) != null; lines++) {
+                if (line.length() > MAX_LINE_LENGTH) {
+                    out.fail(413, "Line " + lines + " is longer than " + MAX_LINE_LENGTH + " characters");
+                    return;
+                }
+                if (lines > MAX_BATCH_LINES) {
+                    out.fail(413, "Batch is longer than " + MAX_BATCH_LINES + " lines");
+                    return;
+                }
+                String amount = line.trim();
+                if (amount.isEmpty()) continue;
+
+                try {
+                    out.write(request.parser.parse(amount), request);
+                } catch (IllegalArgumentException | UnsupportedOperationException e) {
+                    out.write("ERROR " + e.getMessage());
+                }
+            }
+            out.flush();
+        }
+    }
+
+    /** Currency, language and parser resolved from the query. */
+    private static final class Request {
+        final AmountInWords.Currency currency;
+        final LanguageRenderer language;
+        final AmountParser parser;
+
+        Request(Map<String, String> query) {
+            String lang = query.containsKey("lang") ? query.get("lang") : "UA";
+            language = AmountInWords.getLanguage(lang);
+            if (language == null) throw new IllegalArgumentException("Language " + lang + " is not found");
+            parser = AmountParser.forLanguage(language);
+
+            String name = query.containsKey("currency") ? query.get("currency") : lang.contains("UA") ? "UAH" : "USD";
+            currency = isCode(name) ? AmountInWords.Currency.byCode(name) : AmountInWords.Currency.byName(name);
+            if (currency == null) throw new IllegalArgumentException("Currency " + name + " is not found");
+        }
+
+        private static boolean isCode(String name) {
+            if (name.isEmpty() || name.length() > 9) return false;
+            for (int i = 0; i < name.length(); i++)
+                if (name.charAt(i) < '0' || name.charAt(i) > '9') return false;
+            return true;
+        }
+    }
+
+    /**
+     * Reads lines of a batch without a line feed. A longer line than {@link #MAX_LINE_LENGTH} is cut
+     * after one more character, so a body without line feeds is never buffered as a whole.
+     */
+    private static final class LineReader {
+        final Reader in;
+        final char[] buffer = new char[INPUT_BUFFER_SIZE];
+        final StringBuilder line = new StringBuilder();
+        int position;
+        int limit;
+
+        LineReader(Reader in) {
+            this.in = in;
+        }
+
+        /** Returns the next line or {@code null} at the end of the body. */
+        String readLine() throws IOException {
+            line.setLength(0);
+            while (line.length() <= MAX_LINE_LENGTH) {
+                if (position == limit) {
+                    int read = in.read(buffer, 0, buffer.length);
+                    if (read < 0) return line.length() == 0 ? null : line.toString();
+                    position = 0;
+                    limit = read;
+                }
+                char c = buffer[position++];
+                if (c == '\n') return line.toString();
+                line.append(c);
+            }
+            return line.toString();
+        }
+    }
+
+    /**
+     * Puts words encoded in UTF-8 into a buffer and writes it to the response when full.
+     * Headers are sent with the first write, so a batch rejected before it still gets its status.
+     */
+    private static final class BatchWriter {
+        final HttpExchange exchange;
+        final ByteBuffer buffer = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+        OutputStream out;
+
+        BatchWriter(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        void write(long amount, Request request) throws IOException {
+            int start = buffer.position();
+            try {
+                AmountInWords.format(amount, request.currency, request.language, buffer).put((byte) '\n');
+            } catch (BufferOverflowException e) {
+                buffer.position(start);
+                flush();
+                AmountInWords.format(amount, request.currency, request.language, buffer).put((byte) '\n');
+            }
+        }
+
+        void write(String line) throws IOException {
+            byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > buffer.remaining()) flush();
+            if (bytes.length > buffer.remaining()) output().write(bytes);
+            else buffer.put(bytes);
+        }
+
+        /** Answers with the status when nothing is sent yet, otherwise ends the words with an error line. */
+        void fail(int status, String message) throws IOException {
+            if (out == null) {
+                respond(exchange, status, message);
+            } else {
+                write("ERROR " + message);
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            output().write(buffer.array(), 0, buffer.position());
+            out.flush();
+            buffer.clear();
+        }
+
+        private OutputStream output() throws IOException {
+            if (out == null) {
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                exchange.sendResponseHeaders(200, 0);
+                out = exchange.getResponseBody();
+            }
+            return out;
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] body = (text + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static Map<String, String> parseQuery(String query) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<String, String>();
+        if (query == null) return parameters;
+
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals < 0) continue;
+            parameters.put(URLDecoder.decode(parameter.substring(0, equals), "UTF-8"),
+                    URLDecoder.decode(parameter.substring(equals + 1), "UTF-8"));
+        }
+        return parameters;
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "amount-server-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
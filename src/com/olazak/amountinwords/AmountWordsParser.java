@@ -0,0 +1,289 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountInWords.Currency;
+import com.olazak.amountinwords.AmountInWords.Sex;
+import com.olazak.amountinwords.AmountParser.InvalidAmountException;
+import com.olazak.amountinwords.LanguageRules.PluralForm;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts amounts in words back into cents, for example to check printed cheques against their numbers.
+ * <p>
+ * Accepts what {@link AmountInWords#format} writes for the currency and language, with cents also allowed
+ * as digits after the currency word like {@code одна тисяча двісті гривень 05 копійок}, the integer part
+ * is words only. Case, sex and plural forms of words are not checked, words are separated by spaces,
+ * commas or hyphens. Text is read in one pass: every word is looked up
+ * in a perfect hash table built from the compiled word tables and fed into a state machine over triads and scales.
+ */
+public final class AmountWordsParser {
+    private static final int NUMBER = 0;
+    private static final int HUNDRED = 1;
+    private static final int SCALE = 2;
+    private static final int INTEGER_UNIT = 3;
+    private static final int FRACTION_UNIT = 4;
+    private static final int KIND_SHIFT = 16;
+    private static final int VALUE_MASK = (1 << KIND_SHIFT) - 1;
+
+    // Multipliers of scales that fit into long, larger scales are reported as too large amounts.
+    private static final long[] SCALE_FACTORS = {1, 1000, 1000000, 1000000000, 1000000000000L,
+            1000000000000000L, 1000000000000000000L};
+
+    // Places of the state machine within a triad, a word may only fill places below the last filled one.
+    private static final int EMPTY = 3;
+    private static final int HUNDREDS = 2;
+    private static final int TENS = 1;
+    private static final int UNITS = 0;
+
+    private final String[] words;
+    private final int[] tokens;
+    private final int seed;
+    private final int mask;
+
+    public <T> AmountWordsParser(T currency, String language) {
+        this(AmountInWords.getRenderer(currency, language));
+    }
+
+    public AmountWordsParser(CurrencyRenderer renderer) {
+        Map<String, Integer> dictionary = dictionary(renderer.getLanguage(), renderer.getCurrency());
+
+        int size = Integer.highestOneBit(dictionary.size() * 4 - 1) << 1;
+        while (true) {
+            int found = findSeed(dictionary, size);
+            if (found != 0) {
+                seed = found;
+                break;
+            }
+            size *= 2;
+        }
+
+        mask = size - 1;
+        words = new String[size];
+        tokens = new int[size];
+        for (Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+            int slot = hash(entry.getKey(), seed) & mask;
+            words[slot] = entry.getKey();
+            tokens[slot] = entry.getValue();
+        }
+    }
+
+    public long parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /** Parses characters between {@code from} and {@code to}, positions of errors are counted from {@code from}. */
+    public long parse(CharSequence text, int from, int to) {
+        long integer = 0;
+        int triad = 0;
+        int place = EMPTY;
+        int lastScale = Integer.MAX_VALUE;
+        boolean zero = false;
+        boolean fraction = false;
+        boolean seen = false;
+
+        int i = from;
+        while (true) {
+            while (i < to && isSeparator(text.charAt(i))) i++;
+            if (i == to) break;
+
+            int start = i;
+            if (isDigit(text.charAt(i))) {
+                int value = 0;
+                while (i < to && isDigit(text.charAt(i))) {
+                    value = value * 10 + text.charAt(i) - '0';
+                    if (value > 999) throw new InvalidAmountException("Number is too large", start - from);
+                    i++;
+                }
+                if (i < to && !isSeparator(text.charAt(i)))
+                    throw new InvalidAmountException("Expected digit", i - from);
+                // Only cents may be digits, mixed integer parts like "5 тисяч 3 гривні" are rejected.
+                if (!fraction || place != EMPTY || zero) throw new InvalidAmountException("Unexpected number", start - from);
+
+                triad = value;
+                place = UNITS;
+                zero = value == 0;
+                seen = true;
+                continue;
+            }
+
+            int h = 0;
+            while (i < to && !isSeparator(text.charAt(i)))
+                h = h * seed + normalize(text.charAt(i++));
+            int slot = mix(h) & mask;
+            String word = words[slot];
+            if (word == null || !matches(word, text, start, i))
+                throw new InvalidAmountException("Unknown word", start - from);
+
+            int token = tokens[slot];
+            int value = token & VALUE_MASK;
+            switch (token >>> KIND_SHIFT) {
+                case NUMBER:
+                    if (zero || value == 0 && seen)
+                        throw new InvalidAmountException("Unexpected word", start - from);
+                    if (value == 0) {
+                        zero = true;
+                    } else {
+                        // Teens take the place of tens and fill units as well.
+                        int placeOfValue = value >= 100 ? HUNDREDS : value >= 10 ? TENS : UNITS;
+                        if (placeOfValue >= place) throw new InvalidAmountException("Unexpected word", start - from);
+                        triad += value;
+                        place = value < 20 ? UNITS : placeOfValue;
+                    }
+                    seen = true;
+                    break;
+                case HUNDRED:
+                    if (place != UNITS || triad < 1 || triad > 9)
+                        throw new InvalidAmountException("Unexpected word", start - from);
+                    triad *= 100;
+                    place = HUNDREDS;
+                    break;
+                case SCALE:
+                    if (fraction || zero || triad == 0 || value >= lastScale)
+                        throw new InvalidAmountException("Unexpected word", start - from);
+                    integer = add(integer, triad, value, start - from);
+                    lastScale = value;
+                    triad = 0;
+                    place = EMPTY;
+                    break;
+                case INTEGER_UNIT:
+                    if (fraction || !seen) throw new InvalidAmountException("Unexpected word", start - from);
+                    integer = add(integer, triad, 0, start - from);
+                    fraction = true;
+                    triad = 0;
+                    place = EMPTY;
+                    zero = false;
+                    seen = false;
+                    break;
+                default:
+                    if (!fraction || !seen || triad > 99) throw new InvalidAmountException("Unexpected word", start - from);
+                    while (i < to && isSeparator(text.charAt(i))) i++;
+                    if (i < to) throw new InvalidAmountException("Unexpected text after the fraction", i - from);
+                    try {
+                        return Math.addExact(Math.multiplyExact(integer, 100), triad);
+                    } catch (ArithmeticException e) {
+                        throw new InvalidAmountException("Amount is too large", start - from);
+                    }
+            }
+        }
+        throw new InvalidAmountException(fraction ? "Expected the fraction" : "Expected the currency", to - from);
+    }
+
+    private static long add(long integer, int triad, int scale, int position) {
+        try {
+            if (scale >= SCALE_FACTORS.length) throw new ArithmeticException();
+            return Math.addExact(integer, Math.multiplyExact(triad, SCALE_FACTORS[scale]));
+        } catch (ArithmeticException e) {
+            throw new InvalidAmountException("Amount is too large", position);
+        }
+    }
+
+    private static boolean matches(String word, CharSequence text, int from, int to) {
+        if (word.length() != to - from) return false;
+        for (int i = 0; i < word.length(); i++)
+            if (word.charAt(i) != normalize(text.charAt(from + i)))
+                return false;
+        return true;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c < TABLE_SIZE ? NORMALIZED[c] == SEPARATOR : Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static char normalize(char c) {
+        return c < TABLE_SIZE ? NORMALIZED[c] : normalizeSlow(c);
+    }
+
+    // Lower case with typographic apostrophes written as plain ones.
+    private static char normalizeSlow(char c) {
+        if (c == '\u2019' || c == '\u02bc') return '\'';
+        return Character.toLowerCase(c);
+    }
+
+    // Normalized Latin and Cyrillic characters, separators are marked so that the hot loop does no Unicode lookups.
+    private static final int TABLE_SIZE = 0x500;
+    private static final char SEPARATOR = 0;
+    private static final char[] NORMALIZED = new char[TABLE_SIZE];
+
+    static {
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            boolean separator = c == ',' || c == '-' || Character.isWhitespace(c) || Character.isSpaceChar(c);
+            NORMALIZED[c] = separator ? SEPARATOR : normalizeSlow(c);
+        }
+    }
+
+    private static int hash(String word, int seed) {
+        int h = 0;
+        for (int i = 0; i < word.length(); i++)
+            h = h * seed + word.charAt(i);
+        return mix(h);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+
+    /** Returns odd seed that puts every word into its own slot of a table of the given size, 0 if there is none. */
+    private static int findSeed(Map<String, Integer> dictionary, int size) {
+        for (int seed = 31; seed < 31 + 2 * 4096; seed += 2) {
+            boolean[] used = new boolean[size];
+            boolean perfect = true;
+            for (String word : dictionary.keySet()) {
+                int slot = hash(word, seed) & (size - 1);
+                if (used[slot]) {
+                    perfect = false;
+                    break;
+                }
+                used[slot] = true;
+            }
+            if (perfect) return seed;
+        }
+        return 0;
+    }
+
+    /** Single words of numbers, scales and currency units of the language and their tokens. */
+    private static Map<String, Integer> dictionary(LanguageRenderer language, Currency c) {
+        Map<String, Integer> dictionary = new LinkedHashMap<String, Integer>();
+        for (Sex sex : Sex.values()) {
+            for (int value = 0; value < 1000; value++) {
+                if (value > 20 && value % 10 != 0) continue;
+
+                String[] parts = language.getWords(value, sex).split(" ");
+                if (parts.length == 1) {
+                    put(dictionary, parts[0], NUMBER, value);
+                } else if (parts.length == 2 && value % 100 == 0
+                        && parts[0].equals(language.getWords(value / 100, sex))) {
+                    put(dictionary, parts[1], HUNDRED, 0);
+                } else if (value % 100 == 0 || value < 100 && (value < 20 || value % 10 == 0)) {
+                    throw new IllegalArgumentException("Words " + language.getWords(value, sex)
+                            + " of " + value + " in " + language + " are not supported");
+                }
+            }
+        }
+
+        for (int scale = 1; scale <= language.getScaleCount(); scale++)
+            for (PluralForm form : PluralForm.values())
+                put(dictionary, language.getScaleWord(scale, form), SCALE, scale);
+
+        for (String word : new String[]{c.oneInteger, c.twoIntegers, c.fiveIntegers})
+            if (word != null) put(dictionary, word, INTEGER_UNIT, 0);
+        for (String word : new String[]{c.oneFraction, c.twoFractions, c.fiveFractions})
+            if (word != null) put(dictionary, word, FRACTION_UNIT, 0);
+        return dictionary;
+    }
+
+    private static void put(Map<String, Integer> dictionary, String word, int kind, int value) {
+        String key = word.toLowerCase(Locale.ROOT);
+        int token = kind << KIND_SHIFT | value;
+        Integer previous = dictionary.put(key, token);
+        if (previous != null && previous != token)
+            throw new IllegalArgumentException("Word " + word + " has different meanings");
+    }
+}
@@ -0,0 +1,219 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountInWords.Currency;
+import com.olazak.amountinwords.AmountInWords.Triads;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Currency compiled for one language: number words of every units and cents value are joined
+ * with the unit word in the right plural form, so formatting is a few table lookups and appends.
+ * <p>
+ * Renderers are compiled on first use of the currency in the language and kept with the currency,
+ * UTF-8 phrases are encoded when first needed. Words of a currency must not change after it has been formatted.
+ */
+public final class CurrencyRenderer {
+    private static final int UNITS_VALUES = 1000;
+    private static final int FRACTION_VALUES = 100;
+
+    private final Currency currency;
+    private final LanguageRenderer language;
+
+    // Units triad with the currency word for every value, value 0 is spelled as zero,
+    // followed by the currency word alone at Triads.UNIT_ONLY for amounts with higher triads.
+    private final String[] integerPhrases;
+    // Cents with the fraction word for every value.
+    private final String[] fractionPhrases;
+
+    // Same phrases in UTF-8, built on first use, see utf8().
+    private Utf8Phrases utf8;
+
+    private static final class Utf8Phrases {
+        final byte[][] integerPhrases;
+        final byte[][] fractionPhrases;
+
+        Utf8Phrases(String[] integerPhrases, String[] fractionPhrases) {
+            this.integerPhrases = utf8(integerPhrases);
+            this.fractionPhrases = utf8(fractionPhrases);
+        }
+    }
+
+    CurrencyRenderer(Currency currency, LanguageRenderer language,
+                     String[] integerPhrases, String integerUnit, String[] fractionPhrases) {
+        this.currency = currency;
+        this.language = language;
+        this.integerPhrases = Arrays.copyOf(integerPhrases, Triads.UNIT_ONLY + 1);
+        this.integerPhrases[Triads.UNIT_ONLY] = integerUnit;
+        this.fractionPhrases = fractionPhrases;
+    }
+
+    /**
+     * Returns renderer of the currency in the language, compiling it on first use. Renderers are kept with
+     * the registered currency of the same code and words, so mappings may return a new instance for every call.
+     * Unregistered currencies keep renderers themselves and should be long-lived instances.
+     */
+    static CurrencyRenderer of(Currency currency, LanguageRenderer language) {
+        CurrencyRenderer renderer = find(currency, language);
+        if (renderer != null) return renderer;
+
+        Currency registered = Currency.byCode(currency.getCode());
+        if (registered != null && registered != currency && sameWords(registered, currency)) {
+            currency = registered;
+            renderer = find(currency, language);
+            if (renderer != null) return renderer;
+        }
+
+        synchronized (CurrencyRenderer.class) {
+            renderer = find(currency, language);
+            if (renderer != null) return renderer;
+
+            renderer = language.compile(currency);
+            CurrencyRenderer[] renderers = currency.renderers;
+            renderers = Arrays.copyOf(renderers, renderers.length + 1);
+            renderers[renderers.length - 1] = renderer;
+            currency.renderers = renderers;
+            return renderer;
+        }
+    }
+
+    private static CurrencyRenderer find(Currency currency, LanguageRenderer language) {
+        for (CurrencyRenderer renderer : currency.renderers)
+            if (renderer.language == language)
+                return renderer;
+        return null;
+    }
+
+    private static boolean sameWords(Currency a, Currency b) {
+        return a.integerSex == b.integerSex && a.fractionSex == b.fractionSex
+                && equal(a.oneInteger, b.oneInteger) && equal(a.twoIntegers, b.twoIntegers)
+                && equal(a.fiveIntegers, b.fiveIntegers) && equal(a.oneFraction, b.oneFraction)
+                && equal(a.twoFractions, b.twoFractions) && equal(a.fiveFractions, b.fiveFractions);
+    }
+
+    private static boolean equal(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    static int unitsValues() {
+        return UNITS_VALUES;
+    }
+
+    static int fractionValues() {
+        return FRACTION_VALUES;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public LanguageRenderer getLanguage() {
+        return language;
+    }
+
+    public String format(long amount) {
+        AmountInWords.checkAmount(amount);
+
+        StringBuilder amountInWords = new StringBuilder(128);
+        appendAmount(amountInWords, amount);
+        return amountInWords.toString();
+    }
+
+    public String toString() {
+        return currency + "/" + language;
+    }
+
+    void appendAmount(StringBuilder out, long amount) {
+        language.checkAmount(amount);
+        long triads = Triads.split(amount);
+
+        for (int scale = Triads.nextScale(triads, Triads.MAX_TRIADS); scale > 0; scale = Triads.nextScale(triads, scale))
+            out.append(language.getScalePhrase(scale, Triads.triad(triads, scale)));
+
+        out.append(integerPhrases[Triads.unitsPhrase(triads)]);
+        out.append(fractionPhrases[Triads.fraction(triads)]);
+    }
+
+    /** Appends units triad and cents, {@code zero} tells whether empty units are spelled as zero. */
+    void appendUnits(StringBuilder out, int units, boolean zero, int fraction) {
+        out.append(integerPhrases[units == 0 && !zero ? Triads.UNIT_ONLY : units]);
+        out.append(fractionPhrases[fraction]);
+    }
+
+    /** Same as {@link #appendAmount(StringBuilder, long)} with phrases encoded in UTF-8. */
+    void putAmount(ByteBuffer out, long amount) {
+        language.checkAmount(amount);
+        long triads = Triads.split(amount);
+
+        for (int scale = Triads.nextScale(triads, Triads.MAX_TRIADS); scale > 0; scale = Triads.nextScale(triads, scale))
+            out.put(language.getUtf8ScalePhrase(scale, Triads.triad(triads, scale)));
+
+        Utf8Phrases utf8 = utf8();
+        out.put(utf8.integerPhrases[Triads.unitsPhrase(triads)]);
+        out.put(utf8.fractionPhrases[Triads.fraction(triads)]);
+    }
+
+    /** Same as {@link #appendAmount(StringBuilder, long)} into a char array, returns position after the words. */
+    int appendAmount(char[] out, int position, long amount) {
+        language.checkAmount(amount);
+        long triads = Triads.split(amount);
+
+        for (int scale = Triads.nextScale(triads, Triads.MAX_TRIADS); scale > 0; scale = Triads.nextScale(triads, scale))
+            position = put(out, position, language.getScalePhrase(scale, Triads.triad(triads, scale)));
+
+        position = put(out, position, integerPhrases[Triads.unitsPhrase(triads)]);
+        return put(out, position, fractionPhrases[Triads.fraction(triads)]);
+    }
+
+    /** Units triad with the currency word, value 0 spelled as zero. */
+    String getIntegerPhrase(int units) {
+        return integerPhrases[units];
+    }
+
+    /** Currency word alone, for empty units of amounts with higher triads. */
+    String getIntegerUnit() {
+        return integerPhrases[Triads.UNIT_ONLY];
+    }
+
+    String getFractionPhrase(int fraction) {
+        return fractionPhrases[fraction];
+    }
+
+    /** Length of the longest words of a {@code long} amount. */
+    int getMaxLength() {
+        int length = 0;
+        for (int scale = 1; scale <= language.getPhraseScaleCount(); scale++) {
+            int scaleLength = 0;
+            for (int value = 1; value < UNITS_VALUES; value++)
+                scaleLength = Math.max(scaleLength, language.getScalePhrase(scale, value).length());
+            length += scaleLength;
+        }
+        return length + maxLength(integerPhrases) + maxLength(fractionPhrases);
+    }
+
+    private Utf8Phrases utf8() {
+        Utf8Phrases phrases = utf8;
+        if (phrases == null) utf8 = phrases = new Utf8Phrases(integerPhrases, fractionPhrases);
+        return phrases;
+    }
+
+    private static int put(char[] out, int position, String phrase) {
+        phrase.getChars(0, phrase.length(), out, position);
+        return position + phrase.length();
+    }
+
+    private static int maxLength(String[] phrases) {
+        int length = 0;
+        for (String phrase : phrases)
+            length = Math.max(length, phrase.length());
+        return length;
+    }
+
+    private static byte[][] utf8(String[] phrases) {
+        byte[][] bytes = new byte[phrases.length][];
+        for (int i = 0; i < phrases.length; i++)
+            bytes[i] = phrases[i].getBytes(StandardCharsets.UTF_8);
+        return bytes;
+    }
+}
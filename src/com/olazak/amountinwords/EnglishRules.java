@@ -0,0 +1,139 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountInWords.Sex;
+
+final class EnglishRules implements LanguageRules {
+    public String getName() {
+        return "ENG";
+    }
+
+    public String getZeroWord() {
+        return WORD_ENG_0;
+    }
+
+    public String getNumberWords(int value, Sex sex) {
+        int hundreds = value / 100;
+        int tens = (value % 100) / 10;
+        int units = value % 10;
+
+        StringBuilder builder = new StringBuilder();
+        if (hundreds > 0) builder.append(HUNDREDS[hundreds]);
+
+        if (tens == 1) {
+            append(builder, TEENS[units]);
+        } else {
+            if (tens > 0) append(builder, TENS[tens]);
+            if (units > 0) append(builder, UNITS[units]);
+        }
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, String word) {
+        if (builder.length() > 0) builder.append(' ');
+        builder.append(word);
+    }
+
+    public PluralForm getPluralForm(int value) {
+        int tens = (value % 100) / 10;
+        int units = value % 10;
+
+        if (tens == 1) return PluralForm.FEW;
+
+        return units == 1 ? PluralForm.ONE : PluralForm.FEW;
+    }
+
+    public int getScaleCount() {
+        return SCALES.length;
+    }
+
+    public String getScaleWord(int scale, PluralForm form) {
+        return SCALES[scale - 1][form == PluralForm.ONE ? 0 : 1];
+    }
+
+    public Sex getScaleSex(int scale) {
+        return Sex.MALE;
+    }
+
+    private static final String WORD_ENG_100 = "one hundred";
+    private static final String WORD_ENG_200 = "two hundred";
+    private static final String WORD_ENG_300 = "three hundred";
+    private static final String WORD_ENG_400 = "four hundred";
+    private static final String WORD_ENG_500 = "five hundred";
+    private static final String WORD_ENG_600 = "six hundred";
+    private static final String WORD_ENG_700 = "seven hundred";
+    private static final String WORD_ENG_800 = "eight hundred";
+    private static final String WORD_ENG_900 = "nine hundred";
+
+    private static final String WORD_ENG_20 = "twenty";
+    private static final String WORD_ENG_30 = "thirty";
+    private static final String WORD_ENG_40 = "forty";
+    private static final String WORD_ENG_50 = "fifty";
+    private static final String WORD_ENG_60 = "sixty";
+    private static final String WORD_ENG_70 = "seventy";
+    private static final String WORD_ENG_80 = "eighty";
+    private static final String WORD_ENG_90 = "ninety";
+
+    private static final String WORD_ENG_10 = "ten";
+    private static final String WORD_ENG_11 = "eleven";
+    private static final String WORD_ENG_12 = "twelve";
+    private static final String WORD_ENG_13 = "thirteen";
+    private static final String WORD_ENG_14 = "fourteen";
+    private static final String WORD_ENG_15 = "fifteen";
+    private static final String WORD_ENG_16 = "sixteen";
+    private static final String WORD_ENG_17 = "seventeen";
+    private static final String WORD_ENG_18 = "eighteen";
+    private static final String WORD_ENG_19 = "nineteen";
+
+    private static final String WORD_ENG_0 = "zero";
+    private static final String WORD_ENG_1 = "one";
+    private static final String WORD_ENG_2 = "two";
+    private static final String WORD_ENG_3 = "three";
+    private static final String WORD_ENG_4 = "four";
+    private static final String WORD_ENG_5 = "five";
+    private static final String WORD_ENG_6 = "six";
+    private static final String WORD_ENG_7 = "seven";
+    private static final String WORD_ENG_8 = "eight";
+    private static final String WORD_ENG_9 = "nine";
+
+    private static final String THOUSAND_ENG_ONE = "thousand";
+    private static final String MILLION_ENG_ONE = "million";
+    private static final String BILLION_ENG_ONE = "billion";
+    private static final String TRILLION_ENG_ONE = "trillion";
+    private static final String QUADRILLION_ENG_ONE = "quadrillion";
+    private static final String QUINTILLION_ENG_ONE = "quintillion";
+    private static final String SEXTILLION_ENG_ONE = "sextillion";
+    private static final String SEPTILLION_ENG_ONE = "septillion";
+    private static final String OCTILLION_ENG_ONE = "octillion";
+    private static final String NONILLION_ENG_ONE = "nonillion";
+    private static final String DECILLION_ENG_ONE = "decillion";
+    private static final String THOUSAND_ENG_TWO = "thousands";
+    private static final String MILLION_ENG_TWO = "millions";
+    private static final String BILLION_ENG_TWO = "billions";
+    private static final String TRILLION_ENG_TWO = "trillions";
+    private static final String QUADRILLION_ENG_TWO = "quadrillions";
+    private static final String QUINTILLION_ENG_TWO = "quintillions";
+    private static final String SEXTILLION_ENG_TWO = "sextillions";
+    private static final String SEPTILLION_ENG_TWO = "septillions";
+    private static final String OCTILLION_ENG_TWO = "octillions";
+    private static final String NONILLION_ENG_TWO = "nonillions";
+    private static final String DECILLION_ENG_TWO = "decillions";
+
+    private static final String[] HUNDREDS = {null, WORD_ENG_100, WORD_ENG_200, WORD_ENG_300, WORD_ENG_400, WORD_ENG_500, WORD_ENG_600, WORD_ENG_700, WORD_ENG_800, WORD_ENG_900};
+    private static final String[] TENS = {null, null, WORD_ENG_20, WORD_ENG_30, WORD_ENG_40, WORD_ENG_50, WORD_ENG_60, WORD_ENG_70, WORD_ENG_80, WORD_ENG_90};
+    private static final String[] TEENS = {WORD_ENG_10, WORD_ENG_11, WORD_ENG_12, WORD_ENG_13, WORD_ENG_14, WORD_ENG_15, WORD_ENG_16, WORD_ENG_17, WORD_ENG_18, WORD_ENG_19};
+    private static final String[] UNITS = {null, WORD_ENG_1, WORD_ENG_2, WORD_ENG_3, WORD_ENG_4, WORD_ENG_5, WORD_ENG_6, WORD_ENG_7, WORD_ENG_8, WORD_ENG_9};
+
+    private static final String[][] SCALES = {
+            {THOUSAND_ENG_ONE, THOUSAND_ENG_TWO},
+            {MILLION_ENG_ONE, MILLION_ENG_TWO},
+            {BILLION_ENG_ONE, BILLION_ENG_TWO},
+            {TRILLION_ENG_ONE, TRILLION_ENG_TWO},
+            {QUADRILLION_ENG_ONE, QUADRILLION_ENG_TWO},
+            {QUINTILLION_ENG_ONE, QUINTILLION_ENG_TWO},
+            {SEXTILLION_ENG_ONE, SEXTILLION_ENG_TWO},
+            {SEPTILLION_ENG_ONE, SEPTILLION_ENG_TWO},
+            {OCTILLION_ENG_ONE, OCTILLION_ENG_TWO},
+            {NONILLION_ENG_ONE, NONILLION_ENG_TWO},
+            {DECILLION_ENG_ONE, DECILLION_ENG_TWO},
+    };
+}
@@ -0,0 +1,145 @@
+package com.olazak.amountinwords;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of formatted amounts, useful when few amounts like fees and subscription prices
+ * make up most of the calls. Install it with {@link AmountInWords#setCache(FormatCache)}.
+ * <p>
+ * Entries are keyed by amount, currency and language and split into segments by hash,
+ * every segment is a LRU map guarded by its own lock. Currency is compared by identity of the resolved
+ * {@link AmountInWords.Currency}, and the whole cache is invalidated when currencies or currency mapping change.
+ */
+public final class FormatCache {
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public FormatCache(int maximumSize) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size " + maximumSize + " is not positive");
+
+        int count = 1;
+        while (count < MAX_SEGMENTS && count * 2 <= maximumSize) count *= 2;
+
+        this.maximumSize = maximumSize;
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++)
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+    }
+
+    String get(long amount, AmountInWords.Currency currency, LanguageRenderer language) {
+        Key key = new Key(amount, currency, language);
+        Segment segment = segmentFor(key);
+        String words;
+        synchronized (segment) {
+            words = segment.get(key);
+        }
+
+        if (words == null) misses.increment();
+        else hits.increment();
+        return words;
+    }
+
+    void put(long amount, AmountInWords.Currency currency, LanguageRenderer language, String words) {
+        Key key = new Key(amount, currency, language);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, words);
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public String toString() {
+        return "FormatCache{size=" + size() + ", maximumSize=" + maximumSize + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "}";
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private final class Segment extends LinkedHashMap<Key, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+            if (size() <= capacity) return false;
+
+            evictions.increment();
+            return true;
+        }
+    }
+
+    private static final class Key {
+        final long amount;
+        final AmountInWords.Currency currency;
+        final LanguageRenderer language;
+
+        Key(long amount, AmountInWords.Currency currency, LanguageRenderer language) {
+            this.amount = amount;
+            this.currency = currency;
+            this.language = language;
+        }
+
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+
+            Key key = (Key) o;
+            return amount == key.amount && currency == key.currency && language == key.language;
+        }
+
+        public int hashCode() {
+            int hash = (int) (amount ^ (amount >>> 32));
+            hash = hash * 31 + System.identityHashCode(currency);
+            return hash * 31 + System.identityHashCode(language);
+        }
+    }
+}
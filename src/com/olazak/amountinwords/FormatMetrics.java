@@ -0,0 +1,159 @@
+package com.olazak.amountinwords;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters and latency histogram of single amount {@code format} calls, see {@link AmountInWords#getMetrics()}.
+ * <p>
+ * Metrics are off unless the JVM is started with {@code -Damountinwords.metrics=true}. The switch is a
+ * {@code static final} constant, so with metrics off the JIT removes the instrumentation of {@code format} entirely.
+ * With metrics on they are also published over JMX as {@value #OBJECT_NAME}.
+ */
+public final class FormatMetrics implements FormatMetricsMXBean {
+    public static final String OBJECT_NAME = "com.olazak.amountinwords:type=FormatMetrics";
+
+    static final boolean ENABLED = Boolean.getBoolean("amountinwords.metrics");
+    static final FormatMetrics INSTANCE = ENABLED ? register(new FormatMetrics()) : null;
+
+    private static final Object UNKNOWN_LANGUAGE = new Object();
+
+    // Calls per language and currency, language key is the renderer or UNKNOWN_LANGUAGE.
+    private final ConcurrentHashMap<Object, ConcurrentHashMap<AmountInWords.Currency, LongAdder>> calls =
+            new ConcurrentHashMap<Object, ConcurrentHashMap<AmountInWords.Currency, LongAdder>>();
+    private final ConcurrentHashMap<Class<?>, LongAdder> failures = new ConcurrentHashMap<Class<?>, LongAdder>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private FormatMetrics() {
+    }
+
+    void recordCall(AmountInWords.Currency currency, LanguageRenderer language, long started) {
+        latency.record(System.nanoTime() - started);
+
+        Object key = language == null ? UNKNOWN_LANGUAGE : language;
+        ConcurrentHashMap<AmountInWords.Currency, LongAdder> byCurrency = calls.get(key);
+        if (byCurrency == null) {
+            calls.putIfAbsent(key, new ConcurrentHashMap<AmountInWords.Currency, LongAdder>());
+            byCurrency = calls.get(key);
+        }
+        counter(byCurrency, currency).increment();
+    }
+
+    void recordFailure(RuntimeException e) {
+        counter(failures, e.getClass()).increment();
+    }
+
+    private static <K> LongAdder counter(ConcurrentHashMap<K, LongAdder> counters, K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counters.putIfAbsent(key, new LongAdder());
+            counter = counters.get(key);
+        }
+        return counter;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getCallCount() {
+        long count = 0;
+        for (Map<AmountInWords.Currency, LongAdder> byCurrency : calls.values())
+            for (LongAdder counter : byCurrency.values())
+                count += counter.sum();
+        return count;
+    }
+
+    public Map<String, Long> getCallsByCurrencyAndLanguage() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<Object, ConcurrentHashMap<AmountInWords.Currency, LongAdder>> language : calls.entrySet()) {
+            String name = language.getKey() == UNKNOWN_LANGUAGE ? "unknown" : language.getKey().toString();
+            for (Map.Entry<AmountInWords.Currency, LongAdder> currency : language.getValue().entrySet())
+                result.put(currency.getKey().getName() + "/" + name, currency.getValue().sum());
+        }
+        return result;
+    }
+
+    public long getFailureCount() {
+        long count = 0;
+        for (LongAdder counter : failures.values())
+            count += counter.sum();
+        return count;
+    }
+
+    public Map<String, Long> getFailuresByType() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<Class<?>, LongAdder> failure : failures.entrySet())
+            result.put(failure.getKey().getName(), failure.getValue().sum());
+        return result;
+    }
+
+    public double getLatencyMeanNanos() {
+        return latency.getMean();
+    }
+
+    public long getLatencyP50Nanos() {
+        return latency.getValueAtPercentile(50);
+    }
+
+    public long getLatencyP90Nanos() {
+        return latency.getValueAtPercentile(90);
+    }
+
+    public long getLatencyP99Nanos() {
+        return latency.getValueAtPercentile(99);
+    }
+
+    public long getLatencyP999Nanos() {
+        return latency.getValueAtPercentile(99.9);
+    }
+
+    public long getLatencyMaxNanos() {
+        return latency.getMax();
+    }
+
+    public long getCacheHitCount() {
+        FormatCache cache = AmountInWords.getCache();
+        return cache == null ? 0 : cache.getHitCount();
+    }
+
+    public long getCacheMissCount() {
+        FormatCache cache = AmountInWords.getCache();
+        return cache == null ? 0 : cache.getMissCount();
+    }
+
+    public long getCacheEvictionCount() {
+        FormatCache cache = AmountInWords.getCache();
+        return cache == null ? 0 : cache.getEvictionCount();
+    }
+
+    public int getCacheSize() {
+        FormatCache cache = AmountInWords.getCache();
+        return cache == null ? 0 : cache.size();
+    }
+
+    public void reset() {
+        calls.clear();
+        failures.clear();
+        latency.reset();
+    }
+
+    public String toString() {
+        return "FormatMetrics{calls=" + getCallCount() + ", failures=" + getFailureCount()
+                + ", p50=" + getLatencyP50Nanos() + "ns, p99=" + getLatencyP99Nanos() + "ns}";
+    }
+
+    private static FormatMetrics register(FormatMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            // Already registered by another copy of the library, metrics are still available from getMetrics().
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,39 @@
+package com.olazak.amountinwords;
+
+import java.util.Map;
+
+/** Management interface of {@link FormatMetrics}, registered as {@value FormatMetrics#OBJECT_NAME}. */
+public interface FormatMetricsMXBean {
+    long getCallCount();
+
+    /** Calls keyed by currency name and language, like {@code UAH/UA}. */
+    Map<String, Long> getCallsByCurrencyAndLanguage();
+
+    long getFailureCount();
+
+    /** Failed calls keyed by exception class name. */
+    Map<String, Long> getFailuresByType();
+
+    double getLatencyMeanNanos();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP90Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyP999Nanos();
+
+    long getLatencyMaxNanos();
+
+    /** Statistics of the installed {@link FormatCache}, 0 when there is no cache. */
+    long getCacheHitCount();
+
+    long getCacheMissCount();
+
+    long getCacheEvictionCount();
+
+    int getCacheSize();
+
+    void reset();
+}
@@ -0,0 +1,435 @@
+package com.olazak.amountinwords;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stage of a stream of amounts: takes {@link Event}s from an upstream publisher, groups them into batches
+ * by currency and language and formats every batch on a fixed pool of workers, publishing {@link Result}s
+ * to one downstream subscriber in the order they are ready.
+ * <p>
+ * A batch goes to the workers when it has {@code batchSize} events or when its first event has waited
+ * for the linger time, the currency renderer is resolved once per batch. At most {@code 2 * batchSize * parallelism}
+ * events are requested from upstream ahead of the results delivered downstream, so slow subscribers
+ * slow down the publisher instead of filling memory. A malformed amount or an unknown currency fails
+ * its result only, upstream errors are passed downstream after results of the events received before.
+ */
+public final class FormatProcessor implements AmountFlow.Processor<FormatProcessor.Event, FormatProcessor.Result> {
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int capacity;
+
+    private final ExecutorService workers;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    // Open batches by currency and language, guarded by this processor.
+    private final Map<Key, Batch> batches = new HashMap<Key, Batch>();
+
+    private volatile AmountFlow.Subscription upstream;
+    private volatile AmountFlow.Subscriber<? super Result> downstream;
+    // Set when onSubscribe of the downstream has returned, nothing is signalled to it before.
+    private volatile boolean subscribed;
+
+    // Formatted results waiting for downstream demand, delivered by one thread at a time in drain().
+    private final Queue<Result> results = new ConcurrentLinkedQueue<Result>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // Events received and not yet formatted.
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    private volatile IllegalArgumentException invalidRequest;
+
+    // State of drain(), upstream is only requested from and cancelled there, so its signals are serial (§2.7).
+    private boolean terminated;
+    private long unrequested;
+    private boolean stopped;
+    private boolean upstreamCancelled;
+
+    /**
+     * @param batchSize   largest number of events formatted together
+     * @param linger      longest time an event waits for its batch to fill, 0 formats every event as it comes
+     * @param parallelism number of worker threads
+     */
+    public FormatProcessor(int batchSize, long linger, TimeUnit unit, int parallelism) {
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size " + batchSize + " is not positive");
+        if (linger < 0) throw new IllegalArgumentException("Linger " + linger + " is negative");
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism " + parallelism + " is not positive");
+
+        this.batchSize = batchSize;
+        this.lingerNanos = unit.toNanos(linger);
+        this.capacity = 2 * batchSize * parallelism;
+        this.unrequested = capacity;
+        this.workers = Executors.newFixedThreadPool(parallelism, new WorkerFactory("amount-format-"));
+        if (lingerNanos > 0) {
+            // Most timers are cancelled because their batch fills up, they must not stay queued until they are due.
+            this.scheduler = new ScheduledThreadPoolExecutor(1, new WorkerFactory("amount-linger-"));
+            scheduler.setRemoveOnCancelPolicy(true);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public void onSubscribe(AmountFlow.Subscription subscription) {
+        if (subscription == null) throw new NullPointerException("Subscription is null");
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    public void onNext(Event event) {
+        if (event == null) throw new NullPointerException("Event is null");
+        if (done || cancelled) return;
+
+        pending.incrementAndGet();
+        Batch full = null;
+        synchronized (this) {
+            Key key = new Key(event.currency, event.language);
+            Batch batch = batches.get(key);
+            if (batch == null) {
+                batch = new Batch(key, batchSize);
+                batches.put(key, batch);
+                if (lingerNanos > 0) batch.timer = scheduler.schedule(new Linger(batch), lingerNanos, TimeUnit.NANOSECONDS);
+            }
+            batch.events.add(event);
+
+            if (batch.events.size() >= batchSize || lingerNanos == 0) {
+                batches.remove(key);
+                if (batch.timer != null) batch.timer.cancel(false);
+                full = batch;
+            }
+        }
+        if (full != null) submit(full);
+    }
+
+    public void onError(Throwable throwable) {
+        if (throwable == null) throw new NullPointerException("Error is null");
+        error = throwable;
+        flushAll();
+        done = true;
+        drain();
+    }
+
+    public void onComplete() {
+        flushAll();
+        done = true;
+        drain();
+    }
+
+    /** Accepts one subscriber, later ones get {@link IllegalStateException}. */
+    public void subscribe(AmountFlow.Subscriber<? super Result> subscriber) {
+        if (subscriber == null) throw new NullPointerException("Subscriber is null");
+
+        boolean rejected;
+        synchronized (this) {
+            rejected = downstream != null;
+            if (!rejected) downstream = subscriber;
+        }
+        if (rejected) {
+            subscriber.onSubscribe(new AmountFlow.Subscription() {
+                public void request(long n) {
+                }
+
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Processor already has a subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new AmountFlow.Subscription() {
+            public void request(long n) {
+                if (n <= 0) {
+                    invalidRequest = new IllegalArgumentException("Requested " + n + " results, expected a positive number");
+                } else {
+                    long current;
+                    do {
+                        current = requested.get();
+                        if (current == Long.MAX_VALUE) break;
+                    } while (!requested.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+                }
+                drain();
+            }
+
+            public void cancel() {
+                FormatProcessor.this.cancel();
+            }
+        });
+        subscribed = true;
+        drain();
+    }
+
+    private void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    private void submit(final Batch batch) {
+        try {
+            workers.execute(new Runnable() {
+                public void run() {
+                    format(batch);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Workers are only stopped after cancellation, the events are dropped.
+        }
+    }
+
+    private void flushAll() {
+        List<Batch> open;
+        synchronized (this) {
+            open = new ArrayList<Batch>(batches.values());
+            batches.clear();
+        }
+        for (Batch batch : open) {
+            if (batch.timer != null) batch.timer.cancel(false);
+            submit(batch);
+        }
+    }
+
+    private void format(Batch batch) {
+        CurrencyRenderer renderer = null;
+        RuntimeException failure = null;
+        try {
+            renderer = AmountInWords.getRenderer(batch.key.currency, batch.key.language);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        for (Event event : batch.events) {
+            try {
+                // Amount is checked first as in AmountInWords.format.
+                AmountInWords.checkAmount(event.amount);
+                if (renderer == null) throw failure;
+                results.offer(new Result(event, renderer.format(event.amount), null));
+            } catch (RuntimeException e) {
+                results.offer(new Result(event, null, e));
+            }
+        }
+        pending.addAndGet(-batch.events.size());
+        drain();
+    }
+
+    /**
+     * Delivers ready results as far as demand allows and signals the end of the stream once everything is delivered.
+     * Requests results delivered from upstream, or cancels it and stops the workers after cancellation.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+
+        int missed = 1;
+        do {
+            AmountFlow.Subscriber<? super Result> subscriber = downstream;
+            // A non-positive request cancels the subscription before the error is signalled (§3.9).
+            IllegalArgumentException invalid = invalidRequest;
+            if (invalid != null) cancelled = true;
+
+            if (subscribed && !terminated && !cancelled) {
+                long demand = requested.get();
+                long delivered = 0;
+                while (delivered != demand && !cancelled) {
+                    Result result = results.poll();
+                    if (result == null) break;
+                    subscriber.onNext(result);
+                    delivered++;
+                }
+
+                if (delivered != 0) {
+                    if (demand != Long.MAX_VALUE) requested.addAndGet(-delivered);
+                    unrequested += delivered;
+                }
+
+                if (done && !cancelled && pending.get() == 0 && results.isEmpty()) {
+                    terminated = true;
+                    stopped = true;
+                    shutdown();
+                    Throwable throwable = error;
+                    if (throwable != null) subscriber.onError(throwable);
+                    else subscriber.onComplete();
+                }
+            }
+
+            AmountFlow.Subscription subscription = upstream;
+            if (cancelled) {
+                if (!stopped) {
+                    stopped = true;
+                    shutdown();
+                }
+                if (subscription != null && !upstreamCancelled) {
+                    upstreamCancelled = true;
+                    subscription.cancel();
+                }
+                results.clear();
+                if (subscribed && !terminated) {
+                    terminated = true;
+                    if (invalid != null) subscriber.onError(invalid);
+                }
+            } else if (subscription != null && unrequested != 0 && !done) {
+                long n = unrequested;
+                unrequested = 0;
+                subscription.request(n);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void shutdown() {
+        workers.shutdown();
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    /** Amount to format with its currency and language, the attachment is passed to the result as is. */
+    public static final class Event {
+        final long amount;
+        final Object currency;
+        final String language;
+        final Object attachment;
+
+        public <T> Event(long amount, T currency, String language) {
+            this(amount, currency, language, null);
+        }
+
+        public <T> Event(long amount, T currency, String language, Object attachment) {
+            if (currency == null) throw new NullPointerException("Currency is null");
+            if (language == null) throw new NullPointerException("Language is null");
+
+            this.amount = amount;
+            this.currency = currency;
+            this.language = language;
+            this.attachment = attachment;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public Object getCurrency() {
+            return currency;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public Object getAttachment() {
+            return attachment;
+        }
+
+        public String toString() {
+            return amount + " " + currency + " " + language;
+        }
+    }
+
+    /** Words of an event, or the error which prevented formatting it. */
+    public static final class Result {
+        private final Event event;
+        private final String words;
+        private final RuntimeException error;
+
+        Result(Event event, String words, RuntimeException error) {
+            this.event = event;
+            this.words = words;
+            this.error = error;
+        }
+
+        public Event getEvent() {
+            return event;
+        }
+
+        /** Words of the amount, {@code null} if formatting failed. */
+        public String getWords() {
+            return words;
+        }
+
+        public RuntimeException getError() {
+            return error;
+        }
+
+        public String toString() {
+            return error == null ? words : "ERROR " + error.getMessage();
+        }
+    }
+
+    private static final class Key {
+        final Object currency;
+        final String language;
+
+        Key(Object currency, String language) {
+            this.currency = currency;
+            this.language = language;
+        }
+
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return currency.equals(key.currency) && language.equals(key.language);
+        }
+
+        public int hashCode() {
+            return currency.hashCode() * 31 + language.hashCode();
+        }
+    }
+
+    private static final class Batch {
+        final Key key;
+        final List<Event> events;
+        ScheduledFuture<?> timer;
+
+        Batch(Key key, int size) {
+            this.key = key;
+            this.events = new ArrayList<Event>(size);
+        }
+    }
+
+    /** Sends the batch to the workers when its linger time is over, unless it has gone already. */
+    private final class Linger implements Runnable {
+        private final Batch batch;
+
+        Linger(Batch batch) {
+            this.batch = batch;
+        }
+
+        public void run() {
+            synchronized (FormatProcessor.this) {
+                if (batches.get(batch.key) != batch) return;
+                batches.remove(batch.key);
+            }
+            submit(batch);
+        }
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        WorkerFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
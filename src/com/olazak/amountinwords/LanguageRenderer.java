@@ -0,0 +1,426 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountInWords.Currency;
+import com.olazak.amountinwords.AmountInWords.Sex;
+import com.olazak.amountinwords.AmountInWords.Triads;
+import com.olazak.amountinwords.LanguageRules.PluralForm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link LanguageRules} compiled into immutable tables of phrases for every triad value,
+ * so that formatting only looks phrases up and concatenates them.
+ * <p>
+ * Tables are built on first use: words and plural forms when the language formats its first amount,
+ * phrases of every scale and their UTF-8 form when an amount needs them. Words and plural forms may also be
+ * written with {@link #writeTo(OutputStream)} at build time and read back with {@link #readFrom(InputStream)}
+ * for {@link AmountInWords#addLanguage(LanguageRenderer)}. UA and ENG are compiled: on a cold JVM reading
+ * their tables from the class path is slower than the rules, see {@code ColdStartBenchmark}.
+ */
+public final class LanguageRenderer {
+    private static final int TRIAD_VALUES = 1000;
+    private static final int TABLES_VERSION = 1;
+    // Far more scales than any language names, a larger count in a stream means it is not tables.
+    private static final int MAX_SCALE_COUNT = 1000;
+
+    private final String name;
+    private final int scaleCount;
+
+    // Largest amount in cents which can be spelled from a long.
+    private final long maxAmount;
+
+    // Source of the tables, null for tables read from a stream.
+    private final LanguageRules rules;
+
+    // Lazily built holders have only final fields, so they are safely published through the racy checks below.
+    private Tables tables;
+    private final Phrases[] scalePhrases;
+    private final Utf8Phrases[] utf8ScalePhrases;
+
+    /** Words and plural forms of every triad value, scale words. */
+    private static final class Tables {
+        // Words of every triad value followed by a space, value 0 is spelled as zero word.
+        final String[] maleWords;
+        final String[] femaleWords;
+
+        // Plural form of a noun for every triad value.
+        final PluralForm[] forms;
+
+        // Words of every scale in every plural form and sex of scales.
+        final String[][] scaleWords;
+        final Sex[] scaleSexes;
+
+        Tables(String[] maleWords, String[] femaleWords, PluralForm[] forms, String[][] scaleWords, Sex[] scaleSexes) {
+            this.maleWords = maleWords;
+            this.femaleWords = Arrays.equals(femaleWords, maleWords) ? maleWords : femaleWords;
+            this.forms = forms;
+            this.scaleWords = scaleWords;
+            this.scaleSexes = scaleSexes;
+        }
+
+        String[] words(Sex sex) {
+            return sex == Sex.MALE ? maleWords : femaleWords;
+        }
+    }
+
+    /** Triad with the scale word for every value, empty for 0. */
+    private static final class Phrases {
+        final String[] phrases;
+
+        Phrases(String[] phrases) {
+            this.phrases = phrases;
+        }
+    }
+
+    private static final class Utf8Phrases {
+        final byte[][] phrases;
+
+        Utf8Phrases(byte[][] phrases) {
+            this.phrases = phrases;
+        }
+    }
+
+    private LanguageRenderer(String name, int scaleCount, LanguageRules rules, Tables tables) {
+        this.name = name;
+        this.scaleCount = scaleCount;
+        this.rules = rules;
+        this.tables = tables;
+
+        // Phrases are kept for scales that fit into long amounts.
+        int scales = Math.min(scaleCount, Triads.MAX_TRIADS - 1);
+        scalePhrases = new Phrases[scales];
+        utf8ScalePhrases = new Utf8Phrases[scales];
+
+        maxAmount = maxAmount(scales);
+    }
+
+    /** Returns language which tables are built from the rules on first use. */
+    public static LanguageRenderer compile(LanguageRules rules) {
+        return new LanguageRenderer(rules.getName(), rules.getScaleCount(), rules, null);
+    }
+
+    /**
+     * Reads language written by {@link #writeTo(OutputStream)}, the tables are read at once.
+     *
+     * @throws IOException if the stream has tables of another version or layout, or is not tables at all
+     */
+    public static LanguageRenderer readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        int version = data.readInt();
+        if (version != TABLES_VERSION)
+            throw new IOException("Tables version " + version + " is not supported, expected " + TABLES_VERSION);
+        int values = data.readInt();
+        int formCount = data.readInt();
+        if (values != TRIAD_VALUES || formCount != PluralForm.values().length)
+            throw new IOException("Tables of " + values + " values in " + formCount + " plural forms are not supported, expected "
+                    + TRIAD_VALUES + " values in " + PluralForm.values().length + " plural forms");
+
+        String name = data.readUTF();
+        int scaleCount = data.readInt();
+        if (scaleCount < 0 || scaleCount > MAX_SCALE_COUNT)
+            throw new IOException("Scale count " + scaleCount + " of " + name + " is not between 0 and " + MAX_SCALE_COUNT);
+
+        PluralForm[] forms = new PluralForm[TRIAD_VALUES];
+        byte[] ordinals = readBytes(data, TRIAD_VALUES);
+        for (int value = 0; value < TRIAD_VALUES; value++)
+            forms[value] = PluralForm.values()[ordinal(ordinals[value], formCount)];
+        Sex[] scaleSexes = new Sex[scaleCount];
+        ordinals = readBytes(data, scaleCount);
+        for (int scale = 0; scale < scaleCount; scale++)
+            scaleSexes[scale] = Sex.values()[ordinal(ordinals[scale], Sex.values().length)];
+        boolean sameSexes = data.readBoolean();
+
+        // Words are one UTF-8 text decoded at once and cut by their lengths.
+        String[] words = new String[(sameSexes ? 1 : 2) * TRIAD_VALUES + scaleCount * formCount];
+        byte[] lengths = readBytes(data, 2 * words.length);
+        long chars = 0;
+        for (int i = 0; i < words.length; i++)
+            chars += (lengths[2 * i] & 0xff) << 8 | lengths[2 * i + 1] & 0xff;
+        // UTF-8 has one to three bytes for a character of the words, so a broken length does not allocate gigabytes.
+        int size = data.readInt();
+        if (size < chars || size > 3 * chars)
+            throw new IOException("Words of " + name + " have " + chars + " characters, not " + size + " bytes of UTF-8");
+        String text = new String(readBytes(data, size), StandardCharsets.UTF_8);
+        int start = 0;
+        for (int i = 0; i < words.length; i++) {
+            int end = start + ((lengths[2 * i] & 0xff) << 8 | lengths[2 * i + 1] & 0xff);
+            if (end > text.length()) throw new IOException("Words of " + name + " are longer than their text");
+            words[i] = text.substring(start, end);
+            start = end;
+        }
+        if (start != text.length()) throw new IOException("Words of " + name + " are shorter than their text");
+
+        String[] maleWords = Arrays.copyOfRange(words, 0, TRIAD_VALUES);
+        String[] femaleWords = sameSexes ? maleWords : Arrays.copyOfRange(words, TRIAD_VALUES, 2 * TRIAD_VALUES);
+        String[][] scaleWords = new String[scaleCount][];
+        for (int scale = 0, from = (sameSexes ? 1 : 2) * TRIAD_VALUES; scale < scaleCount; scale++, from += formCount)
+            scaleWords[scale] = Arrays.copyOfRange(words, from, from + formCount);
+
+        return new LanguageRenderer(name, scaleCount, null, new Tables(maleWords, femaleWords, forms, scaleWords, scaleSexes));
+    }
+
+    /**
+     * Writes words, plural forms and scale words of the language in a compact binary form,
+     * phrases are joined again when read. The stream is not closed.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        Tables t = tables();
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(TABLES_VERSION);
+        data.writeInt(TRIAD_VALUES);
+        data.writeInt(PluralForm.values().length);
+        data.writeUTF(name);
+        data.writeInt(scaleCount);
+
+        for (PluralForm form : t.forms)
+            data.writeByte(form.ordinal());
+        for (Sex sex : t.scaleSexes)
+            data.writeByte(sex.ordinal());
+        data.writeBoolean(t.femaleWords == t.maleWords);
+
+        StringBuilder text = new StringBuilder();
+        ByteArrayOutputStream lengths = new ByteArrayOutputStream();
+        appendWords(text, lengths, t.maleWords);
+        if (t.femaleWords != t.maleWords) appendWords(text, lengths, t.femaleWords);
+        for (String[] words : t.scaleWords)
+            appendWords(text, lengths, words);
+
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        lengths.writeTo(data);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+        data.flush();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Number of scales above units this language can spell. */
+    public int getScaleCount() {
+        return scaleCount;
+    }
+
+    /** Largest amount in cents this language can spell from a {@code long}. */
+    public long getMaxAmount() {
+        return maxAmount;
+    }
+
+    public String toString() {
+        return name;
+    }
+
+    /** Words of the triad value without the trailing space, zero word for 0. */
+    String getWords(int value, Sex sex) {
+        String words = tables().words(sex)[value];
+        return words.substring(0, words.length() - 1);
+    }
+
+    String getScaleWord(int scale, PluralForm form) {
+        return tables().scaleWords[scale - 1][form.ordinal()];
+    }
+
+    /** Number of scales which phrases are kept, scales of amounts that fit into {@code long}. */
+    int getPhraseScaleCount() {
+        return scalePhrases.length;
+    }
+
+    /** Phrase of the triad value with the scale word, empty for 0. */
+    String getScalePhrase(int scale, int value) {
+        Phrases phrases = scalePhrases[scale - 1];
+        if (phrases == null) scalePhrases[scale - 1] = phrases = buildScalePhrases(scale);
+        return phrases.phrases[value];
+    }
+
+    byte[] getUtf8ScalePhrase(int scale, int value) {
+        Utf8Phrases phrases = utf8ScalePhrases[scale - 1];
+        if (phrases == null) {
+            String[] strings = new String[TRIAD_VALUES];
+            for (int i = 0; i < TRIAD_VALUES; i++)
+                strings[i] = getScalePhrase(scale, i);
+            utf8ScalePhrases[scale - 1] = phrases = new Utf8Phrases(utf8(strings));
+        }
+        return phrases.phrases[value];
+    }
+
+    private Phrases buildScalePhrases(int scale) {
+        Tables t = tables();
+        String[] words = t.words(t.scaleSexes[scale - 1]);
+        String[] phrases = new String[TRIAD_VALUES];
+        phrases[0] = "";
+        for (int value = 1; value < TRIAD_VALUES; value++)
+            phrases[value] = words[value] + t.scaleWords[scale - 1][t.forms[value].ordinal()] + " ";
+        return new Phrases(phrases);
+    }
+
+    private Tables tables() {
+        Tables t = tables;
+        if (t == null) tables = t = buildTables(rules);
+        return t;
+    }
+
+    private static Tables buildTables(LanguageRules rules) {
+        PluralForm[] forms = new PluralForm[TRIAD_VALUES];
+        for (int value = 0; value < TRIAD_VALUES; value++)
+            forms[value] = rules.getPluralForm(value);
+
+        String[][] scaleWords = new String[rules.getScaleCount()][PluralForm.values().length];
+        Sex[] scaleSexes = new Sex[rules.getScaleCount()];
+        for (int scale = 1; scale <= scaleWords.length; scale++) {
+            for (PluralForm form : PluralForm.values())
+                scaleWords[scale - 1][form.ordinal()] = rules.getScaleWord(scale, form);
+            scaleSexes[scale - 1] = rules.getScaleSex(scale);
+        }
+
+        return new Tables(words(rules, Sex.MALE), words(rules, Sex.FEMALE), forms, scaleWords, scaleSexes);
+    }
+
+    void appendAmount(StringBuilder out, long amount, Currency c) {
+        CurrencyRenderer.of(c, this).appendAmount(out, amount);
+    }
+
+    void putAmount(ByteBuffer out, long amount, Currency c) {
+        CurrencyRenderer.of(c, this).putAmount(out, amount);
+    }
+
+    /**
+     * Compiles unit phrases of the currency in this language, see {@link CurrencyRenderer#of}.
+     *
+     * @throws IllegalArgumentException if the currency has no word for a plural form or no sex the language needs
+     */
+    CurrencyRenderer compile(Currency c) {
+        Tables t = tables();
+        checkWords(t, c);
+        String[] integerPhrases = new String[CurrencyRenderer.unitsValues()];
+        for (int value = 0; value < integerPhrases.length; value++)
+            integerPhrases[value] = t.words(c.integerSex)[value] + unit(t.forms[value], c.oneInteger, c.twoIntegers, c.fiveIntegers) + " ";
+        String integerUnit = unit(t.forms[0], c.oneInteger, c.twoIntegers, c.fiveIntegers) + " ";
+
+        String[] fractionPhrases = new String[CurrencyRenderer.fractionValues()];
+        for (int value = 0; value < fractionPhrases.length; value++)
+            fractionPhrases[value] = t.words(c.fractionSex)[value] + unit(t.forms[value], c.oneFraction, c.twoFractions, c.fiveFractions) + " ";
+
+        return new CurrencyRenderer(c, this, integerPhrases, integerUnit, fractionPhrases);
+    }
+
+    /**
+     * Spells amounts of any magnitude with all scales of the language, amounts that fit
+     * into {@code long} take the same path as {@link #appendAmount(StringBuilder, long, Currency)}.
+     */
+    void appendAmount(StringBuilder out, BigInteger amount, Currency c) {
+        if (amount.bitLength() < Long.SIZE) {
+            appendAmount(out, amount.longValue(), c);
+            return;
+        }
+
+        int[] triads = Triads.split(amount);
+        int scales = triads.length - 2;
+        if (scales > scaleCount)
+            throw new UnsupportedOperationException("Amounts with more than " + (scaleCount + 1) * 3
+                    + " digits are not supported in " + name + ".");
+
+        for (int scale = scales; scale > 0; scale--) {
+            int value = triads[scale + 1];
+            if (value == 0) continue;
+
+            if (scale <= scalePhrases.length) {
+                out.append(getScalePhrase(scale, value));
+            } else {
+                Tables t = tables();
+                out.append(t.words(t.scaleSexes[scale - 1])[value]);
+                out.append(t.scaleWords[scale - 1][t.forms[value].ordinal()]).append(' ');
+            }
+        }
+
+        CurrencyRenderer.of(c, this).appendUnits(out, triads[1], false, triads[0]);
+    }
+
+    void checkAmount(long amount) {
+        checkAmount(amount, maxAmount, name);
+    }
+
+    /** Largest amount in cents spelled with phrases of the scales, see {@link #getMaxAmount()}. */
+    static long maxAmount(int scales) {
+        long max = 100;
+        for (int scale = 0; scale <= scales && max > 0; scale++)
+            max = max <= Long.MAX_VALUE / 1000 ? max * 1000 : -1;
+        return max > 0 ? max - 1 : Long.MAX_VALUE;
+    }
+
+    static void checkAmount(long amount, long maxAmount, String language) {
+        if (amount > maxAmount)
+            throw new UnsupportedOperationException("Amounts greater than " + maxAmount / 100 + "."
+                    + String.format("%02d", maxAmount % 100) + " are not supported in " + language + ".");
+    }
+
+    private void checkWords(Tables t, Currency c) {
+        for (int value = 0; value < CurrencyRenderer.unitsValues(); value++) {
+            PluralForm form = t.forms[value];
+            if (unit(form, c.oneInteger, c.twoIntegers, c.fiveIntegers) == null)
+                throw new IllegalArgumentException("Currency " + c + " has no " + unit(form, "oneInteger", "twoIntegers",
+                        "fiveIntegers") + " word for plural form " + form + " of " + name);
+            if (value < CurrencyRenderer.fractionValues() && unit(form, c.oneFraction, c.twoFractions, c.fiveFractions) == null)
+                throw new IllegalArgumentException("Currency " + c + " has no " + unit(form, "oneFraction", "twoFractions",
+                        "fiveFractions") + " word for plural form " + form + " of " + name);
+        }
+
+        // Without sexes of units both sexes are spelled the same.
+        if (t.femaleWords != t.maleWords && (c.integerSex == null || c.fractionSex == null))
+            throw new IllegalArgumentException("Currency " + c + " has no sex of " + (c.integerSex == null ? "integer" : "fraction")
+                    + " units, " + name + " needs it");
+    }
+
+    private static String unit(PluralForm form, String one, String two, String five) {
+        switch (form) {
+            case ONE: return one;
+            case FEW: return two;
+            default:  return five;
+        }
+    }
+
+    private static String[] words(LanguageRules rules, Sex sex) {
+        String[] words = new String[TRIAD_VALUES];
+        words[0] = rules.getZeroWord() + " ";
+        for (int value = 1; value < TRIAD_VALUES; value++)
+            words[value] = rules.getNumberWords(value, sex) + " ";
+        return words;
+    }
+
+    private static void appendWords(StringBuilder text, ByteArrayOutputStream lengths, String[] words) throws IOException {
+        for (String word : words) {
+            if (word.length() > 0xffff) throw new IOException("Word of " + word.length() + " characters is too long");
+            text.append(word);
+            lengths.write(word.length() >>> 8);
+            lengths.write(word.length());
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream data, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return bytes;
+    }
+
+    private static int ordinal(byte ordinal, int count) throws IOException {
+        if ((ordinal & 0xff) >= count) throw new IOException("Ordinal " + (ordinal & 0xff) + " is not below " + count);
+        return ordinal;
+    }
+
+    private static byte[][] utf8(String[] phrases) {
+        byte[][] bytes = new byte[phrases.length][];
+        for (int i = 0; i < phrases.length; i++)
+            bytes[i] = phrases[i].getBytes(StandardCharsets.UTF_8);
+        return bytes;
+    }
+}
@@ -0,0 +1,35 @@
+package com.olazak.amountinwords;
+
+/**
+ * Words and grammar of a language used to spell amounts.
+ * <p>
+ * Rules are only consulted when they are compiled into a {@link LanguageRenderer},
+ * so they do not need to be fast. Register new languages with {@link AmountInWords#addLanguage(LanguageRules)}.
+ */
+public interface LanguageRules {
+    /**
+     * Plural form of a noun after a number. Currencies have a word for every form:
+     * {@code ONE} is for one dollar, {@code FEW} for two dollars and {@code MANY} for five dollars.
+     * Languages with a single plural use {@code FEW} for it.
+     */
+    enum PluralForm {ONE, FEW, MANY}
+
+    /** Name used to select the language, like UA or ENG. */
+    String getName();
+
+    String getZeroWord();
+
+    /** Words of a number from 1 to 999 agreed with a noun of the given sex, separated by single spaces. */
+    String getNumberWords(int value, AmountInWords.Sex sex);
+
+    /** Plural form of a noun after a number from 0 to 999. */
+    PluralForm getPluralForm(int value);
+
+    /** Number of supported scales, 3 means thousands, millions and billions. */
+    int getScaleCount();
+
+    /** Word of a scale from 1 (thousand) to {@link #getScaleCount()} in the given plural form. */
+    String getScaleWord(int scale, PluralForm form);
+
+    AmountInWords.Sex getScaleSex(int scale);
+}
@@ -0,0 +1,97 @@
+package com.olazak.amountinwords;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Scanner;
+
+public class Main {
+    private static final Scanner scanner = new Scanner(System.in);
+
+    /**
+     * Without arguments asks for amounts in the console,
+     * {@code <input> <output> <UA|ENG>} converts a file of amounts, one per line,
+     * {@code --server [port] [threads]} serves amounts over HTTP, see {@link AmountServer},
+     * {@code --write-tables <directory>} writes tables of UA and ENG at build time, see {@link LanguageRenderer#writeTo}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--server")) {
+            startServer(args);
+            return;
+        }
+        if (args.length == 2 && args[0].equals("--write-tables")) {
+            writeTables(Paths.get(args[1]));
+            return;
+        }
+        if (args.length == 3) {
+            convertFile(args[0], args[1], args[2]);
+            return;
+        }
+
+        boolean theEndProgram = false;
+
+        while (!theEndProgram) {
+            System.out.println("Please, choose the language: UA or ENG. If you want exit enter 'y'. ");
+            String language = readConsoleElement();
+            if (language.equalsIgnoreCase("y")){
+                theEndProgram = true;
+            }
+            else if (language.equals("UA") || language.equals("ENG")) {
+                while (true){
+                System.out.println("Please, enter the value from 0 to 92233720368547758. Use format for example 9,00. Remember that symbol '.' use for ENG and ',' for UA.");
+                String value = readConsoleElement();
+                try {
+                    long sum = AmountParser.forLanguage(language).parse(value);
+                    System.out.println(AmountInWords.format(sum, language.equals("UA") ? AmountInWords.UAH : AmountInWords.USD, language));
+                    break;
+                } catch (AmountParser.InvalidAmountException e) {
+                    System.out.println("You wrote wrong value. Please try again");
+                }
+                }
+            }else System.out.println("Incorrect command. Please try again");
+        }
+    }
+
+    public static String readConsoleElement() {
+        return scanner.nextLine();
+    }
+
+    private static void startServer(String[] args) throws IOException {
+        // Turns Nagle's algorithm off for the JDK server, see AmountServer. Read when the first server is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null)
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors() * 2;
+
+        AmountServer server = new AmountServer(new InetSocketAddress(port), threads);
+        server.start();
+        System.out.println("Listening on port " + server.getAddress().getPort() + " with " + threads + " threads");
+    }
+
+    private static void writeTables(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (LanguageRules rules : new LanguageRules[]{new UkrainianRules(), new EnglishRules()}) {
+            try (OutputStream out = Files.newOutputStream(directory.resolve(rules.getName() + ".tables"))) {
+                LanguageRenderer.compile(rules).writeTo(out);
+            }
+        }
+    }
+
+    private static void convertFile(String input, String output, String language) throws IOException {
+        AmountInWords.Currency currency;
+        if (language.equals("UA")) currency = AmountInWords.UAH;
+        else if (language.equals("ENG")) currency = AmountInWords.USD;
+        else {
+            System.out.println("Incorrect language. Use UA or ENG");
+            return;
+        }
+
+        AmountFileConverter.Report report = new AmountFileConverter(currency, language)
+                .convert(Paths.get(input), Paths.get(output));
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,192 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountInWords.Triads;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Phrases of a currency in a language numbered by short IDs, for storing amounts in words as a few
+ * {@code short} tokens instead of the text and rendering them only when read.
+ * <p>
+ * An amount is encoded as the tokens of its phrases in the order of the text: a triad with its scale word
+ * for every non-zero scale, units with the currency word and cents with the fraction word. The token of cents
+ * always comes last, so rows need no separators. Decoding gives the same text as
+ * {@link AmountInWords#format(long, Object, String)}.
+ * <p>
+ * IDs depend only on the values of the phrases: {@code scale * 1000 + triad} for scale phrases,
+ * {@link #UNITS} {@code + units}, {@link #UNIT} for the currency word alone and {@link #FRACTION} {@code + cents}.
+ * The dictionary may be written next to the tokens with {@link #writeTo(OutputStream)},
+ * so they can be decoded with {@link #readFrom(InputStream)} without the currency being registered.
+ */
+public final class PhraseDictionary {
+    /** Version of the token layout, written with the dictionary. */
+    public static final int VERSION = 1;
+
+    public static final int UNITS = 7000;
+    // Units phrases are numbered by Triads.unitsPhrase, the currency word alone goes right after units 999.
+    public static final int UNIT = UNITS + Triads.UNIT_ONLY;
+    public static final int FRACTION = 8100;
+
+    private static final int SIZE = FRACTION + 100;
+    private static final int MAX_SCALES = UNITS / 1000 - 1;
+
+    // Longest row: every scale, units and cents.
+    public static final int MAX_TOKENS = MAX_SCALES + 2;
+
+    private final String language;
+    private final int currencyCode;
+    private final String currencyName;
+    private final int scaleCount;
+    private final long maxAmount;
+
+    // Phrase of every ID, null for unused IDs.
+    private final String[] phrases;
+
+    private PhraseDictionary(String language, int currencyCode, String currencyName, int scaleCount, String[] phrases) {
+        this.language = language;
+        this.currencyCode = currencyCode;
+        this.currencyName = currencyName;
+        this.scaleCount = scaleCount;
+        this.phrases = phrases;
+        this.maxAmount = LanguageRenderer.maxAmount(scaleCount);
+    }
+
+    public static <T> PhraseDictionary of(T currency, String language) {
+        return of(AmountInWords.getRenderer(currency, language));
+    }
+
+    public static PhraseDictionary of(CurrencyRenderer renderer) {
+        LanguageRenderer language = renderer.getLanguage();
+        int scaleCount = Math.min(language.getPhraseScaleCount(), MAX_SCALES);
+
+        String[] phrases = new String[SIZE];
+        for (int scale = 1; scale <= scaleCount; scale++)
+            for (int value = 1; value < 1000; value++)
+                phrases[scale * 1000 + value] = language.getScalePhrase(scale, value);
+        for (int units = 0; units < 1000; units++)
+            phrases[UNITS + units] = renderer.getIntegerPhrase(units);
+        phrases[UNIT] = renderer.getIntegerUnit();
+        for (int fraction = 0; fraction < 100; fraction++)
+            phrases[FRACTION + fraction] = renderer.getFractionPhrase(fraction);
+
+        return new PhraseDictionary(language.getName(), renderer.getCurrency().getCode(),
+                renderer.getCurrency().getName(), scaleCount, phrases);
+    }
+
+    /** Reads dictionary written by {@link #writeTo(OutputStream)}. */
+    public static PhraseDictionary readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        int version = data.readInt();
+        if (version != VERSION)
+            throw new IOException("Dictionary version " + version + " is not supported, expected " + VERSION);
+
+        String language = data.readUTF();
+        int currencyCode = data.readInt();
+        String currencyName = data.readUTF();
+        int scaleCount = data.readInt();
+        if (scaleCount < 0 || scaleCount > MAX_SCALES) throw new IOException("Scale count " + scaleCount + " is not valid");
+
+        String[] phrases = new String[SIZE];
+        for (int id = 0; id < SIZE; id++)
+            if (isUsed(id, scaleCount)) phrases[id] = data.readUTF();
+        return new PhraseDictionary(language, currencyCode, currencyName, scaleCount, phrases);
+    }
+
+    /** Writes version, currency, language and all phrases, the stream is not closed. */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(VERSION);
+        data.writeUTF(language);
+        data.writeInt(currencyCode);
+        data.writeUTF(currencyName);
+        data.writeInt(scaleCount);
+        for (int id = 0; id < SIZE; id++)
+            if (isUsed(id, scaleCount)) data.writeUTF(phrases[id]);
+        data.flush();
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public int getCurrencyCode() {
+        return currencyCode;
+    }
+
+    public String getCurrencyName() {
+        return currencyName;
+    }
+
+    public String toString() {
+        return currencyCode + ":" + currencyName + "/" + language + " v" + VERSION;
+    }
+
+    /** Puts tokens of the amount into {@code out} from {@code position}, returns position after them. */
+    public int encode(long amount, short[] out, int position) {
+        long triads = split(amount);
+        for (int scale = Triads.nextScale(triads, Triads.MAX_TRIADS); scale > 0; scale = Triads.nextScale(triads, scale))
+            out[position++] = (short) (scale * 1000 + Triads.triad(triads, scale));
+
+        out[position++] = (short) (UNITS + Triads.unitsPhrase(triads));
+        out[position++] = (short) (FRACTION + Triads.fraction(triads));
+        return position;
+    }
+
+    /** Same as {@link #encode(long, short[], int)} into the buffer. */
+    public ByteBuffer encode(long amount, ByteBuffer out) {
+        long triads = split(amount);
+        for (int scale = Triads.nextScale(triads, Triads.MAX_TRIADS); scale > 0; scale = Triads.nextScale(triads, scale))
+            out.putShort((short) (scale * 1000 + Triads.triad(triads, scale)));
+
+        out.putShort((short) (UNITS + Triads.unitsPhrase(triads)));
+        return out.putShort((short) (FRACTION + Triads.fraction(triads)));
+    }
+
+    /** Appends text of the row starting at {@code position}, returns position of the next row. */
+    public int decode(short[] tokens, int position, StringBuilder out) {
+        while (true) {
+            int id = tokens[position++];
+            out.append(phrase(id, position - 1));
+            if (id >= FRACTION) return position;
+        }
+    }
+
+    /** Appends text of the row at the position of the buffer and moves the position to the next row. */
+    public StringBuilder decode(ByteBuffer in, StringBuilder out) {
+        while (true) {
+            int id = in.getShort();
+            out.append(phrase(id, in.position() - 2));
+            if (id >= FRACTION) return out;
+        }
+    }
+
+    public String decode(short[] tokens, int position) {
+        StringBuilder out = new StringBuilder(128);
+        decode(tokens, position, out);
+        return out.toString();
+    }
+
+    private String phrase(int id, int position) {
+        String phrase = id >= 0 && id < SIZE ? phrases[id] : null;
+        if (phrase == null) throw new IllegalArgumentException("Token " + id + " at position " + position + " is not valid");
+        return phrase;
+    }
+
+    private long split(long amount) {
+        AmountInWords.checkAmount(amount);
+        LanguageRenderer.checkAmount(amount, maxAmount, language);
+        return Triads.split(amount);
+    }
+
+    private static boolean isUsed(int id, int scaleCount) {
+        if (id >= UNITS) return id < UNIT + 1 || id >= FRACTION;
+        return id / 1000 >= 1 && id / 1000 <= scaleCount && id % 1000 != 0;
+    }
+}
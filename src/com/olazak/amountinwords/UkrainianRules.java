@@ -0,0 +1,169 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountInWords.Sex;
+
+final class UkrainianRules implements LanguageRules {
+    public String getName() {
+        return "UA";
+    }
+
+    public String getZeroWord() {
+        return WORD_0;
+    }
+
+    public String getNumberWords(int value, Sex sex) {
+        int hundreds = value / 100;
+        int tens = (value % 100) / 10;
+        int units = value % 10;
+
+        StringBuilder builder = new StringBuilder();
+        if (hundreds > 0) builder.append(HUNDREDS[hundreds]);
+
+        if (tens == 1) {
+            append(builder, TEENS[units]);
+        } else {
+            if (tens > 0) append(builder, TENS[tens]);
+            if (units > 0) append(builder, sex == Sex.MALE ? UNITS_MALE[units] : UNITS_FEMALE[units]);
+        }
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, String word) {
+        if (builder.length() > 0) builder.append(' ');
+        builder.append(word);
+    }
+
+    public PluralForm getPluralForm(int value) {
+        int tens = (value % 100) / 10;
+        int units = value % 10;
+
+        if (tens == 1) return PluralForm.MANY;
+
+        switch (units) {
+            default: return PluralForm.MANY;
+            case 1:  return PluralForm.ONE;
+            case 2:
+            case 3:
+            case 4:  return PluralForm.FEW;
+        }
+    }
+
+    public int getScaleCount() {
+        return SCALES.length;
+    }
+
+    public String getScaleWord(int scale, PluralForm form) {
+        return SCALES[scale - 1][form.ordinal()];
+    }
+
+    public Sex getScaleSex(int scale) {
+        return scale == 1 ? Sex.FEMALE : Sex.MALE;
+    }
+
+    private static final String WORD_100 = "сто";
+    private static final String WORD_200 = "двісті";
+    private static final String WORD_300 = "триста";
+    private static final String WORD_400 = "чотириста";
+    private static final String WORD_500 = "п'ятсот";
+    private static final String WORD_600 = "шістьсот";
+    private static final String WORD_700 = "сімсот";
+    private static final String WORD_800 = "вісімсот";
+    private static final String WORD_900 = "дев'ятьсот";
+
+    private static final String WORD_20 = "двадцать";
+    private static final String WORD_30 = "тридцать";
+    private static final String WORD_40 = "сорок";
+    private static final String WORD_50 = "п'ятьдесят";
+    private static final String WORD_60 = "шістьдесят";
+    private static final String WORD_70 = "сімдесят";
+    private static final String WORD_80 = "вісімдесят";
+    private static final String WORD_90 = "дев'яносто";
+
+    private static final String WORD_10 = "десять";
+    private static final String WORD_11 = "одинадцать";
+    private static final String WORD_12 = "дванадцать";
+    private static final String WORD_13 = "тринадцать";
+    private static final String WORD_14 = "чотирнадцать";
+    private static final String WORD_15 = "п'ятнадцать";
+    private static final String WORD_16 = "шістнадцать";
+    private static final String WORD_17 = "сімнадцать";
+    private static final String WORD_18 = "вісімнадцать";
+    private static final String WORD_19 = "дев'ятнадцать";
+
+    private static final String WORD_0 = "нуль";
+    private static final String WORD_1_MALE = "один";
+    private static final String WORD_1_FEMALE = "одна";
+    private static final String WORD_2_MALE = "два";
+    private static final String WORD_2_FEMALE = "дві";
+    private static final String WORD_3 = "три";
+    private static final String WORD_4 = "чотири";
+    private static final String WORD_5 = "п'ять";
+    private static final String WORD_6 = "шість";
+    private static final String WORD_7 = "сім";
+    private static final String WORD_8 = "вісімь";
+    private static final String WORD_9 = "дев'ять";
+
+    private static final String THOUSAND_ONE = "тисяча";
+    private static final String THOUSAND_TWO = "тисячі";
+    private static final String THOUSAND_FIVE = "тисяч";
+
+    private static final String MILLION_ONE = "мільйон";
+    private static final String MILLION_TWO = "мільйони";
+    private static final String MILLION_FIVE = "мільйонів";
+
+    private static final String BILLION_ONE = "мільярд";
+    private static final String BILLION_TWO = "мільярда";
+    private static final String BILLION_FIVE = "мільярдів";
+
+    private static final String TRILLION_ONE = "трильйон";
+    private static final String TRILLION_TWO = "трильйони";
+    private static final String TRILLION_FIVE = "трильйонів";
+
+    private static final String QUADRILLION_ONE = "квадрильйон";
+    private static final String QUADRILLION_TWO = "квадрильйони";
+    private static final String QUADRILLION_FIVE = "квадрильйонів";
+
+    private static final String QUINTILLION_ONE = "квінтильйон";
+    private static final String QUINTILLION_TWO = "квінтильйони";
+    private static final String QUINTILLION_FIVE = "квінтильйонів";
+
+    private static final String SEXTILLION_ONE = "секстильйон";
+    private static final String SEXTILLION_TWO = "секстильйони";
+    private static final String SEXTILLION_FIVE = "секстильйонів";
+
+    private static final String SEPTILLION_ONE = "септильйон";
+    private static final String SEPTILLION_TWO = "септильйони";
+    private static final String SEPTILLION_FIVE = "септильйонів";
+
+    private static final String OCTILLION_ONE = "октильйон";
+    private static final String OCTILLION_TWO = "октильйони";
+    private static final String OCTILLION_FIVE = "октильйонів";
+
+    private static final String NONILLION_ONE = "нонільйон";
+    private static final String NONILLION_TWO = "нонільйони";
+    private static final String NONILLION_FIVE = "нонільйонів";
+
+    private static final String DECILLION_ONE = "децильйон";
+    private static final String DECILLION_TWO = "децильйони";
+    private static final String DECILLION_FIVE = "децильйонів";
+
+    private static final String[] HUNDREDS = {null, WORD_100, WORD_200, WORD_300, WORD_400, WORD_500, WORD_600, WORD_700, WORD_800, WORD_900};
+    private static final String[] TENS = {null, null, WORD_20, WORD_30, WORD_40, WORD_50, WORD_60, WORD_70, WORD_80, WORD_90};
+    private static final String[] TEENS = {WORD_10, WORD_11, WORD_12, WORD_13, WORD_14, WORD_15, WORD_16, WORD_17, WORD_18, WORD_19};
+    private static final String[] UNITS_MALE = {null, WORD_1_MALE, WORD_2_MALE, WORD_3, WORD_4, WORD_5, WORD_6, WORD_7, WORD_8, WORD_9};
+    private static final String[] UNITS_FEMALE = {null, WORD_1_FEMALE, WORD_2_FEMALE, WORD_3, WORD_4, WORD_5, WORD_6, WORD_7, WORD_8, WORD_9};
+
+    private static final String[][] SCALES = {
+            {THOUSAND_ONE, THOUSAND_TWO, THOUSAND_FIVE},
+            {MILLION_ONE, MILLION_TWO, MILLION_FIVE},
+            {BILLION_ONE, BILLION_TWO, BILLION_FIVE},
+            {TRILLION_ONE, TRILLION_TWO, TRILLION_FIVE},
+            {QUADRILLION_ONE, QUADRILLION_TWO, QUADRILLION_FIVE},
+            {QUINTILLION_ONE, QUINTILLION_TWO, QUINTILLION_FIVE},
+            {SEXTILLION_ONE, SEXTILLION_TWO, SEXTILLION_FIVE},
+            {SEPTILLION_ONE, SEPTILLION_TWO, SEPTILLION_FIVE},
+            {OCTILLION_ONE, OCTILLION_TWO, OCTILLION_FIVE},
+            {NONILLION_ONE, NONILLION_TWO, NONILLION_FIVE},
+            {DECILLION_ONE, DECILLION_TWO, DECILLION_FIVE},
+    };
+}
@@ -0,0 +1,161 @@
+package com.olazak.amountinwords;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Differential check of {@link AmountColumnParser} against {@link AmountParser}: random valid and malformed
+ * amounts must give the same cents or the same error from both parsers.
+ */
+public class AmountColumnParserTest {
+    private static final long SEED = 20240611L;
+    private static final int CASES = 20000;
+    private static final String ALPHABET = "0123456789,.x \r";
+    private static final String[] SUFFIXES = {"", "\n", "\r\n", "\n99999999,99"};
+    private static final int BLOCK_LINES = 64;
+
+    private static final AmountParser[] PARSERS = {AmountParser.UA, AmountParser.ENG};
+
+    @Test
+    public void linesFromHeapAndDirectBuffers() {
+        Random random = new Random(SEED);
+        for (AmountParser parser : PARSERS) {
+            for (int n = 0; n < CASES; n++) {
+                String line = line(parser, random);
+                if (line.isEmpty()) continue;
+
+                String expected = expected(parser, line);
+                for (String suffix : SUFFIXES) {
+                    byte[] bytes = (line + suffix).getBytes(StandardCharsets.ISO_8859_1);
+                    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+                    direct.put(bytes);
+
+                    assertEquals("\"" + line + "\" from heap", expected, parseLine(parser, ByteBuffer.wrap(bytes)));
+                    assertEquals("\"" + line + "\" from direct buffer", expected, parseLine(parser, direct));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void blocksWithBlankLinesAndCrLf() {
+        Random random = new Random(SEED);
+        for (AmountParser parser : PARSERS) {
+            for (int n = 0; n < CASES / BLOCK_LINES; n++) {
+                List<String> amounts = new ArrayList<String>();
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < BLOCK_LINES; i++) {
+                    if (random.nextInt(8) == 0) {
+                        text.append('\n');
+                        continue;
+                    }
+                    String amount = amount(parser, random);
+                    amounts.add(amount);
+                    text.append(amount).append(random.nextBoolean() ? "\n" : "\r\n");
+                }
+
+                long[] expected = new long[amounts.size()];
+                for (int i = 0; i < expected.length; i++)
+                    expected[i] = parser.parse(amounts.get(i));
+
+                byte[] bytes = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+                AmountColumnParser columnParser = new AmountColumnParser(parser);
+                // One spare slot, so trailing blank lines are read as well.
+                long[] column = new long[amounts.size() + 1];
+                assertEquals(amounts.size(), columnParser.parseLines(bytes, 0, bytes.length, column, 0));
+                assertArrayEquals(text.toString(), expected, Arrays.copyOf(column, amounts.size()));
+                assertEquals(bytes.length, columnParser.getPosition());
+            }
+        }
+    }
+
+    @Test
+    public void fixedWidthRecords() {
+        Random random = new Random(SEED);
+        for (AmountParser parser : PARSERS) {
+            for (int n = 0; n < CASES; n++) {
+                String amount = amount(parser, random);
+                if (amount.indexOf(parser.getSeparator()) != amount.length() - 3) continue;
+
+                int width = amount.length() + 1 + random.nextInt(20);
+                char padding = random.nextBoolean() ? ' ' : '0';
+                StringBuilder record = new StringBuilder();
+                while (record.length() + amount.length() < width - 1) record.append(padding);
+                record.append(amount).append('\n');
+
+                byte[] bytes = record.toString().getBytes(StandardCharsets.ISO_8859_1);
+                long[] column = new long[1];
+                new AmountColumnParser(parser).parseFixed(bytes, 0, bytes.length, 1, column, 0);
+                assertEquals(record.toString(), parser.parse(amount), column[0]);
+            }
+        }
+    }
+
+    @Test
+    public void errorsHaveLineNumbers() {
+        byte[] bytes = "1,00\n\n1,0x\n".getBytes(StandardCharsets.ISO_8859_1);
+        try {
+            new AmountColumnParser("UA").parseLines(bytes, 0, bytes.length, new long[5], 0);
+        } catch (IllegalArgumentException e) {
+            assertEquals("Line 3: " + expected(AmountParser.UA, "1,0x").substring("error ".length()), e.getMessage());
+            return;
+        }
+        throw new AssertionError("Malformed line accepted");
+    }
+
+    /** Valid amount of random magnitude, sometimes with grouped integer digits. */
+    private static String amount(AmountParser parser, Random random) {
+        char separator = parser.getSeparator();
+        if (random.nextInt(4) == 0)
+            return String.format("%,d", random.nextInt(100000000)).replace(',', separator) + separator + "0" + random.nextInt(10);
+
+        long cents = (random.nextLong() & Long.MAX_VALUE) >>> random.nextInt(63);
+        return cents / 100 + String.valueOf(separator) + String.format("%02d", cents % 100);
+    }
+
+    /** Valid amount, long run of digits or random characters of amounts. */
+    private static String line(AmountParser parser, Random random) {
+        StringBuilder line = new StringBuilder();
+        switch (random.nextInt(3)) {
+            case 0:
+                return amount(parser, random);
+            case 1:
+                int digits = 1 + random.nextInt(21);
+                for (int i = 0; i < digits; i++) line.append((char) ('0' + random.nextInt(10)));
+                return line.append(parser.getSeparator()).append(random.nextInt(10)).append(random.nextInt(10)).toString();
+            default:
+                int length = random.nextInt(25);
+                for (int i = 0; i < length; i++) line.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                // A line of the column parser never has a line feed, nor a carriage return at its end.
+                while (line.length() > 0 && line.charAt(line.length() - 1) == '\r') line.setLength(line.length() - 1);
+                return line.toString();
+        }
+    }
+
+    private static String parseLine(AmountParser parser, ByteBuffer buffer) {
+        long[] column = new long[1];
+        try {
+            int count = new AmountColumnParser(parser).parseLines(buffer, 0, buffer.capacity(), column, 0);
+            return count == 0 ? "nothing" : String.valueOf(column[0]);
+        } catch (IllegalArgumentException e) {
+            return "error " + e.getMessage().replaceFirst("^Line 1: ", "");
+        }
+    }
+
+    private static String expected(AmountParser parser, String line) {
+        try {
+            return String.valueOf(parser.parse(line));
+        } catch (IllegalArgumentException e) {
+            return "error " + e.getMessage();
+        }
+    }
+}
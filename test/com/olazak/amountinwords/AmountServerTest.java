@@ -0,0 +1,118 @@
+package com.olazak.amountinwords;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/** Requests to a server on a free local port, languages added with {@link AmountInWords#addLanguage} included. */
+public class AmountServerTest {
+    private static AmountServer server;
+
+    @BeforeClass
+    public static void start() throws IOException {
+        AmountInWords.addLanguage(new Rules("XX", new EnglishRules()));
+        server = new AmountServer(new InetSocketAddress("127.0.0.1", 0), 2);
+        server.start();
+    }
+
+    @AfterClass
+    public static void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    public void formatsAmountInAddedLanguage() throws IOException {
+        assertEquals("200 one thousand two hundred thirty four dollars fifty six cents \n",
+                send("GET", "/words?amount=1234.56&currency=USD&lang=XX", null));
+        assertEquals("200 five dollars zero cents \none dollar one cent \n",
+                send("POST", "/words?currency=USD&lang=XX", "5.00\n\n1.01\n"));
+    }
+
+    @Test
+    public void rejectsLongLines() throws IOException {
+        StringBuilder line = new StringBuilder();
+        while (line.length() <= AmountServer.MAX_LINE_LENGTH) line.append('1');
+        assertEquals("413 Line 1 is longer than " + AmountServer.MAX_LINE_LENGTH + " characters\n",
+                send("POST", "/words?lang=UA", line + ",00\n"));
+    }
+
+    @Test
+    public void rejectsLongBatches() throws IOException {
+        StringBuilder batch = new StringBuilder();
+        for (int i = 0; i <= AmountServer.MAX_BATCH_LINES; i++) batch.append('\n');
+        assertEquals("413 Batch is longer than " + AmountServer.MAX_BATCH_LINES + " lines\n",
+                send("POST", "/words?lang=UA", batch.toString()));
+    }
+
+    private static String send(String method, String path, String body) throws IOException {
+        InetSocketAddress address = server.getAddress();
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http", address.getHostString(), address.getPort(), path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            OutputStream out = connection.getOutputStream();
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+            out.close();
+        }
+
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        for (int read; (read = in.read(buffer)) >= 0; )
+            text.write(buffer, 0, read);
+        in.close();
+        return status + " " + new String(text.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /** Rules of another language under a new name. */
+    private static final class Rules implements LanguageRules {
+        final String name;
+        final LanguageRules rules;
+
+        Rules(String name, LanguageRules rules) {
+            this.name = name;
+            this.rules = rules;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getZeroWord() {
+            return rules.getZeroWord();
+        }
+
+        public String getNumberWords(int value, AmountInWords.Sex sex) {
+            return rules.getNumberWords(value, sex);
+        }
+
+        public PluralForm getPluralForm(int value) {
+            return rules.getPluralForm(value);
+        }
+
+        public int getScaleCount() {
+            return rules.getScaleCount();
+        }
+
+        public String getScaleWord(int scale, PluralForm form) {
+            return rules.getScaleWord(scale, form);
+        }
+
+        public AmountInWords.Sex getScaleSex(int scale) {
+            return rules.getScaleSex(scale);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountParser.InvalidAmountException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/** Round trip of {@link AmountWordsParser} over formatted amounts and rejection of texts which are not amounts in words. */
+public class AmountWordsParserTest {
+    private static final long SEED = 20240611L;
+    private static final int SEQUENTIAL = 200000;
+    private static final int RANDOM = 200000;
+
+    // USD has no words for all plural forms of UA, so it is only checked in ENG.
+    private static final Object[][] PAIRS = {{AmountInWords.UAH, "UA"}, {AmountInWords.USD, "ENG"}, {AmountInWords.UAH, "ENG"}};
+
+    private static final String[] INVALID_UA = {
+            "", "гривень", "одна гривня", "одна гривня копійок", "сто сто гривень нуль копійок",
+            "одна тисяча тисяча гривень нуль копійок", "один двадцять гривень нуль копійок",
+            "нуль один гривень нуль копійок", "тисяча гривень нуль копійок", "одна гривня сто копійок",
+            "одна гривня нуль копійок зайве", "одна гривня 100 копійок", "одна гривня 5x копійок",
+            "5 тисяч 3 гривні 00 копійок", "п'ять тисяч 3 гривні 00 копійок", "12 гривень 00 копійок",
+            "одна гривня 5 10 копійок", "одна гривня 05 п'ять копійок"};
+
+    private static final String[] INVALID_ENG = {
+            "one hundred hundred dollars zero cents", "hundred dollars zero cents",
+            "twenty one hundred dollars zero cents", "one thousand dollars", "5 thousand 3 dollars 00 cents"};
+
+    @Test
+    public void parsesFormattedAmounts() {
+        Random random = new Random(SEED);
+        for (Object[] pair : PAIRS) {
+            AmountWordsParser parser = new AmountWordsParser(pair[0], (String) pair[1]);
+            for (long amount = 0; amount < SEQUENTIAL; amount++)
+                assertRoundTrip(parser, amount, pair);
+            for (int i = 0; i < RANDOM; i++) {
+                // Large amounts and amounts of a few billions alternately.
+                long amount = i % 2 == 0 ? random.nextLong() & Long.MAX_VALUE : (long) (random.nextDouble() * 214748364700L);
+                assertRoundTrip(parser, amount, pair);
+            }
+            assertRoundTrip(parser, Long.MAX_VALUE, pair);
+        }
+    }
+
+    @Test
+    public void acceptsCentsAsDigits() {
+        AmountWordsParser parser = new AmountWordsParser(AmountInWords.UAH, "UA");
+        assertEquals(120005, parser.parse("одна тисяча двісті гривень 05 копійок"));
+        assertEquals(120005, parser.parse("Одна Тисяча Двісті Гривень П’ять Копійок"));
+    }
+
+    @Test
+    public void rejectsMalformedTexts() {
+        assertRejected(new AmountWordsParser(AmountInWords.UAH, "UA"), INVALID_UA);
+        assertRejected(new AmountWordsParser(AmountInWords.USD, "ENG"), INVALID_ENG);
+    }
+
+    private static void assertRoundTrip(AmountWordsParser parser, long amount, Object[] pair) {
+        String words = AmountInWords.format(amount, pair[0], (String) pair[1]);
+        assertEquals(words, amount, parser.parse(words));
+    }
+
+    private static void assertRejected(AmountWordsParser parser, String[] texts) {
+        for (String text : texts) {
+            try {
+                fail("\"" + text + "\" accepted as " + parser.parse(text));
+            } catch (InvalidAmountException e) {
+                // Expected.
+            }
+        }
+    }
+}
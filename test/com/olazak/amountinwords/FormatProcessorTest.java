@@ -0,0 +1,174 @@
+package com.olazak.amountinwords;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Signals of {@link FormatProcessor} to both sides: every result is delivered before completion, and the upstream
+ * subscription is requested from and cancelled by one thread at a time, also when the downstream cancels
+ * while results are delivered.
+ */
+public class FormatProcessorTest {
+    private static final long SEED = 20240611L;
+    private static final int EVENTS = 1000;
+    private static final int ROUNDS = 200;
+
+    @Test
+    public void deliversEveryResultBeforeCompletion() throws InterruptedException {
+        FormatProcessor processor = new FormatProcessor(16, 1, TimeUnit.MILLISECONDS, 2);
+        Recorder downstream = new Recorder(Long.MAX_VALUE);
+        processor.subscribe(downstream);
+        Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+
+        for (int i = 0; i < EVENTS; i++)
+            processor.onNext(new FormatProcessor.Event(i, i % 2 == 0 ? AmountInWords.UAH : AmountInWords.USD, i % 2 == 0 ? "UA" : "ENG"));
+        processor.onComplete();
+
+        assertTrue(downstream.finished.await(10, TimeUnit.SECONDS));
+        assertEquals(EVENTS, downstream.results.get());
+        assertEquals("[complete]", downstream.signals.toString());
+        assertEquals(0, upstream.violations.get());
+    }
+
+    @Test
+    public void invalidRequestCancelsUpstreamBeforeError() throws InterruptedException {
+        FormatProcessor processor = new FormatProcessor(4, 0, TimeUnit.MILLISECONDS, 1);
+        final Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+        Recorder downstream = new Recorder(0) {
+            public void onError(Throwable throwable) {
+                signals.add("upstream cancelled " + upstream.cancelled);
+                super.onError(throwable);
+            }
+        };
+        processor.subscribe(downstream);
+
+        assertTrue(downstream.finished.await(10, TimeUnit.SECONDS));
+        assertEquals("upstream cancelled true", downstream.signals.get(0));
+        assertEquals("error Requested 0 results, expected a positive number", downstream.signals.get(1));
+        assertEquals(0, upstream.violations.get());
+    }
+
+    @Test
+    public void cancellationBeforeUpstreamCancelsIt() {
+        FormatProcessor processor = new FormatProcessor(4, 1, TimeUnit.MILLISECONDS, 1);
+        processor.subscribe(new Recorder(1) {
+            public void onSubscribe(AmountFlow.Subscription subscription) {
+                subscription.cancel();
+            }
+        });
+        Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+
+        assertTrue(upstream.cancelled);
+        assertEquals(0, upstream.requested.get());
+    }
+
+    @Test
+    public void upstreamSignalsAreSerialWhenDownstreamCancels() throws InterruptedException {
+        Random random = new Random(SEED);
+        for (int round = 0; round < ROUNDS; round++) {
+            final FormatProcessor processor = new FormatProcessor(1 + random.nextInt(8), random.nextInt(50), TimeUnit.MICROSECONDS, 2);
+            final Recorder downstream = new Recorder(Long.MAX_VALUE);
+            processor.subscribe(downstream);
+            final Upstream upstream = new Upstream();
+            processor.onSubscribe(upstream);
+
+            Thread publisher = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < EVENTS && !upstream.cancelled; ) {
+                        if (upstream.requested.get() > i) processor.onNext(new FormatProcessor.Event(i++, AmountInWords.UAH, "UA"));
+                        else Thread.yield();
+                    }
+                }
+            });
+            publisher.start();
+            // Cancels on this thread while workers deliver results and request more.
+            int delivered = random.nextInt(EVENTS);
+            while (downstream.results.get() < delivered && publisher.isAlive()) Thread.yield();
+            downstream.subscription.cancel();
+            publisher.join();
+
+            // A worker in drain() at the time of cancellation cancels the upstream when it is done.
+            assertTrue(upstream.cancellation.await(10, TimeUnit.SECONDS));
+            assertEquals("Overlapping or late signals in round " + round, 0, upstream.violations.get());
+        }
+    }
+
+    /** Subscription which counts requests and signals that overlap or come after cancellation. */
+    private static final class Upstream implements AmountFlow.Subscription {
+        final AtomicLong requested = new AtomicLong();
+        final AtomicInteger violations = new AtomicInteger();
+        final AtomicInteger active = new AtomicInteger();
+        final CountDownLatch cancellation = new CountDownLatch(1);
+        volatile boolean cancelled;
+
+        public void request(long n) {
+            enter();
+            if (cancelled || n <= 0) violations.incrementAndGet();
+            requested.addAndGet(n);
+            exit();
+        }
+
+        public void cancel() {
+            enter();
+            if (cancelled) violations.incrementAndGet();
+            cancelled = true;
+            exit();
+            cancellation.countDown();
+        }
+
+        private void enter() {
+            if (active.getAndIncrement() != 0) violations.incrementAndGet();
+            Thread.yield();
+        }
+
+        private void exit() {
+            active.decrementAndGet();
+        }
+    }
+
+    /** Subscriber which requests the given number of results up front and records failed results and terminal signals. */
+    private static class Recorder implements AmountFlow.Subscriber<FormatProcessor.Result> {
+        final long request;
+        final AtomicInteger results = new AtomicInteger();
+        final List<String> signals = new CopyOnWriteArrayList<String>();
+        final CountDownLatch finished = new CountDownLatch(1);
+        volatile AmountFlow.Subscription subscription;
+
+        Recorder(long request) {
+            this.request = request;
+        }
+
+        public void onSubscribe(AmountFlow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(request);
+        }
+
+        public void onNext(FormatProcessor.Result result) {
+            if (result.getError() != null) signals.add("error " + result.getError().getMessage());
+            results.incrementAndGet();
+        }
+
+        public void onError(Throwable throwable) {
+            signals.add("error " + throwable.getMessage());
+            finished.countDown();
+        }
+
+        public void onComplete() {
+            signals.add("complete");
+            finished.countDown();
+        }
+    }
+}
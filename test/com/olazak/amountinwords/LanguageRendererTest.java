@@ -0,0 +1,107 @@
+package com.olazak.amountinwords;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class LanguageRendererTest {
+    private static final long[] AMOUNTS = {0, 1, 101, 2205, 123456789, 100000000000L, Long.MAX_VALUE / 1000};
+    @Test
+    public void rejectsCurrencyWithoutWordOfPluralForm() {
+        // USD has words for one and two dollars only, UA spells five dollars with the third form.
+        try {
+            fail(AmountInWords.format(500, AmountInWords.USD, "UA"));
+        } catch (IllegalArgumentException e) {
+            assertEquals("Currency 840:USD has no fiveIntegers word for plural form MANY of UA", e.getMessage());
+        }
+    }
+
+    @Test
+    public void compilesCurrencyWithWordsOfUsedForms() {
+        // ENG uses two forms, so both currencies are spelled.
+        assertEquals("five dollars zero cents ", AmountInWords.format(500, AmountInWords.USD, "ENG"));
+        assertEquals("five гривні zero копійки ", AmountInWords.format(500, AmountInWords.UAH, "ENG"));
+    }
+
+    @Test
+    public void readsWrittenTables() throws IOException {
+        for (LanguageRules rules : new LanguageRules[]{new UkrainianRules(), new EnglishRules()}) {
+            LanguageRenderer compiled = LanguageRenderer.compile(rules);
+            LanguageRenderer read = LanguageRenderer.readFrom(new ByteArrayInputStream(write(compiled)));
+
+            assertEquals(compiled.getName(), read.getName());
+            assertEquals(compiled.getScaleCount(), read.getScaleCount());
+            Object currency = rules.getName().equals("UA") ? AmountInWords.UAH : AmountInWords.USD;
+            for (long amount : AMOUNTS)
+                assertEquals(AmountInWords.format(amount, currency, compiled), AmountInWords.format(amount, currency, read));
+        }
+    }
+
+    @Test
+    public void rejectsTablesOfOtherVersionOrLayout() throws IOException {
+        byte[] tables = write(LanguageRenderer.compile(new EnglishRules()));
+        assertRejected("Tables version 2 is not supported, expected 1", patch(tables, 0, 2));
+        assertRejected("Tables of 1000 values in 4 plural forms are not supported, expected 1000 values in 3 plural forms",
+                patch(tables, 8, 4));
+
+        // Scale count follows the version, layout and the name written as a length and its bytes.
+        int scaleCount = 12 + 2 + "ENG".length();
+        assertRejected("Scale count -1 of ENG is not between 0 and 1000", patch(tables, scaleCount, -1));
+        assertRejected("Scale count 100000 of ENG is not between 0 and 1000", patch(tables, scaleCount, 100000));
+
+        byte[] badForm = tables.clone();
+        badForm[scaleCount + 4] = 7;
+        assertRejected("Ordinal 7 is not below 3", badForm);
+
+        // Size of the text follows plural forms, sexes of scales, one set of words for both sexes and the lengths of words.
+        int scales = ByteBuffer.wrap(tables).getInt(scaleCount);
+        int size = scaleCount + 4 + 1000 + scales + 1 + 2 * (1000 + 3 * scales);
+        // ENG words are ASCII, a character a byte.
+        int chars = ByteBuffer.wrap(tables).getInt(size);
+        assertRejected("Words of ENG have " + chars + " characters, not 2147483647 bytes of UTF-8", patch(tables, size, Integer.MAX_VALUE));
+        assertRejected("Words of ENG have " + chars + " characters, not " + (chars - 1) + " bytes of UTF-8", patch(tables, size, chars - 1));
+    }
+
+    @Test
+    public void registersReadLanguage() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        byte[] tables = write(LanguageRenderer.compile(new EnglishRules()));
+        // Same tables under another name.
+        data.write(tables, 0, 12);
+        data.writeUTF("ENG2");
+        data.write(tables, 12 + 2 + "ENG".length(), tables.length - 12 - 2 - "ENG".length());
+
+        LanguageRenderer read = LanguageRenderer.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(read, AmountInWords.addLanguage(read));
+        assertEquals(read, AmountInWords.getLanguage("ENG2"));
+        assertEquals(AmountInWords.format(123456, AmountInWords.USD, "ENG"), AmountInWords.format(123456, AmountInWords.USD, "ENG2"));
+    }
+
+    private static byte[] write(LanguageRenderer language) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        language.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static byte[] patch(byte[] tables, int position, int value) {
+        byte[] patched = tables.clone();
+        ByteBuffer.wrap(patched).putInt(position, value);
+        return patched;
+    }
+
+    private static void assertRejected(String message, byte[] tables) {
+        try {
+            fail("Tables of " + LanguageRenderer.readFrom(new ByteArrayInputStream(tables)) + " read");
+        } catch (IOException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+}
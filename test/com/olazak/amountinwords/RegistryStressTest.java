@@ -0,0 +1,210 @@
+package com.olazak.amountinwords;
+
+import com.olazak.amountinwords.AmountInWords.Currency;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Consistency of currency registration under contention.
+ * <ul>
+ * <li>Racing registrations: threads released together register currencies with the same code or the same name,
+ * exactly one of them must win every round.</li>
+ * <li>Register, look up and format: every writer registers its own currencies and must find and format them
+ * as soon as the registration returns and never after removal, while readers format UAH looked up by code
+ * and check that snapshots of registered currencies have no duplicate codes or names.</li>
+ * <li>Bulk registration: all currencies are found, codes and names outside the dense indexes included,
+ * or none of them when one is a duplicate, and removals leave the other slots of the copied indexes intact.</li>
+ * </ul>
+ */
+public class RegistryStressTest {
+    private static final int THREADS = 4;
+    private static final int RACE_ROUNDS = 500;
+    private static final int WRITES = 5000;
+    private static final int FIRST_RACE_CODE = 100;
+    private static final int FIRST_WRITER_CODE = 500;
+    private static final int CODES_PER_WRITER = 16;
+    private static final int FIRST_BULK_CODE = 300;
+    private static final int BULK_CODES = 100;
+
+    @Test
+    public void exactlyOneOfRacingRegistrationsWins() throws Exception {
+        final CyclicBarrier start = new CyclicBarrier(THREADS);
+        final AtomicInteger[] winners = new AtomicInteger[RACE_ROUNDS];
+        for (int round = 0; round < RACE_ROUNDS; round++)
+            winners[round] = new AtomicInteger();
+
+        run(THREADS, new Task() {
+            public void run(int thread) throws Exception {
+                for (int round = 0; round < RACE_ROUNDS; round++) {
+                    // Even rounds race on the code, odd rounds on the name.
+                    int code = round % 2 == 0 ? FIRST_RACE_CODE : FIRST_RACE_CODE + 1 + thread;
+                    String name = round % 2 == 0 ? "Q" + name(thread) : "QQQ";
+                    start.await();
+                    try {
+                        AmountInWords.addCurrency(currency(code, name));
+                        winners[round].incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // Lost the race.
+                    }
+                    start.await();
+                    if (thread == 0) {
+                        for (Currency c : AmountInWords.getCurrencies())
+                            if (c.getCode() >= FIRST_RACE_CODE && c.getCode() <= FIRST_RACE_CODE + THREADS)
+                                AmountInWords.removeCurrency(c);
+                    }
+                    start.await();
+                }
+            }
+        });
+
+        int violations = 0;
+        for (AtomicInteger winner : winners)
+            if (winner.get() != 1) violations++;
+        assertEquals("Rounds without exactly one winner", 0, violations);
+    }
+
+    @Test
+    public void registeredCurrenciesAreFoundAndFormatted() throws Exception {
+        final int writers = THREADS / 2;
+        final AtomicInteger violations = new AtomicInteger();
+        final AtomicInteger writersLeft = new AtomicInteger(writers);
+        final String expected = AmountInWords.format(123456, AmountInWords.UAH, "UA");
+
+        run(THREADS, new Task() {
+            public void run(int thread) {
+                if (thread < writers) {
+                    write(thread, violations);
+                    writersLeft.decrementAndGet();
+                    return;
+                }
+                for (int n = 0; writersLeft.get() > 0; n++) {
+                    if (!expected.equals(AmountInWords.format(123456, Currency.byCode(980), "UA")))
+                        violations.incrementAndGet();
+                    if (thread == writers && n % 64 == 0 && hasDuplicates(AmountInWords.getCurrencies()))
+                        violations.incrementAndGet();
+                }
+            }
+        });
+        assertEquals("Violations", 0, violations.get());
+    }
+
+    @Test
+    public void bulkRegistrationIsAllOrNothing() {
+        Currency[] currencies = new Currency[BULK_CODES + 1];
+        for (int i = 0; i < BULK_CODES; i++)
+            currencies[i] = currency(FIRST_BULK_CODE + i, "B" + name(i));
+        // Neither the code nor the name fits the dense indexes.
+        currencies[BULK_CODES] = currency(1234, "BULK");
+
+        Currency[] duplicate = currencies.clone();
+        duplicate[BULK_CODES / 2] = currency(FIRST_BULK_CODE + BULK_CODES, "UAH");
+        try {
+            AmountInWords.addCurrencies(duplicate);
+            fail("Duplicate name registered");
+        } catch (IllegalStateException e) {
+            assertEquals(2, AmountInWords.getCurrencies().size());
+        }
+
+        AmountInWords.addCurrencies(currencies);
+        try {
+            for (Currency c : currencies) {
+                assertEquals(c, Currency.byCode(c.getCode()));
+                assertSame(Currency.byCode(c.getCode()), Currency.byName(c.getName()));
+            }
+
+            for (int i = 0; i < currencies.length; i += 2)
+                AmountInWords.removeCurrency(currencies[i]);
+            for (int i = 0; i < currencies.length; i++) {
+                boolean removed = i % 2 == 0;
+                assertEquals(removed, Currency.byCode(currencies[i].getCode()) == null);
+                assertEquals(removed, Currency.byName(currencies[i].getName()) == null);
+            }
+            assertEquals(AmountInWords.UAH, Currency.byName("UAH"));
+        } finally {
+            for (Currency c : currencies)
+                AmountInWords.removeCurrency(c);
+        }
+        assertEquals(2, AmountInWords.getCurrencies().size());
+    }
+
+    private static void write(int writer, AtomicInteger violations) {
+        for (int n = 0; n < WRITES; n++) {
+            int code = FIRST_WRITER_CODE + writer * CODES_PER_WRITER + n % CODES_PER_WRITER;
+            String name = "W" + name(writer * CODES_PER_WRITER + n % CODES_PER_WRITER);
+            Currency currency = currency(code, name);
+
+            try {
+                AmountInWords.addCurrency(currency);
+            } catch (IllegalStateException e) {
+                // Only this writer uses the code, so the previous removal was lost.
+                violations.incrementAndGet();
+            }
+            Currency byCode = Currency.byCode(code);
+            if (byCode == null || byCode != Currency.byName(name)
+                    || !AmountInWords.format(100, byCode, "ENG").contains(name.toLowerCase()))
+                violations.incrementAndGet();
+
+            AmountInWords.removeCurrency(currency);
+            if (Currency.byCode(code) != null || Currency.byName(name) != null)
+                violations.incrementAndGet();
+        }
+    }
+
+    private interface Task {
+        void run(int thread) throws Exception;
+    }
+
+    private static void run(int threads, final Task task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                futures[t] = pool.submit(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        task.run(thread);
+                        return null;
+                    }
+                });
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static Currency currency(int code, final String name) {
+        return new Currency(code, name) {{
+            oneInteger = twoIntegers = fiveIntegers = name;
+            oneFraction = twoFractions = fiveFractions = name.toLowerCase();
+            integerSex = fractionSex = AmountInWords.Sex.MALE;
+        }};
+    }
+
+    private static boolean hasDuplicates(List<Currency> currencies) {
+        Set<Integer> codes = new HashSet<Integer>();
+        Set<String> names = new HashSet<String>();
+        for (Currency c : currencies)
+            if (!codes.add(c.getCode()) || !names.add(c.getName())) return true;
+        return false;
+    }
+
+    /** Two capital letters for numbers below 676. */
+    private static String name(int number) {
+        return "" + (char) ('A' + number / 26 % 26) + (char) ('A' + number % 26);
+    }
+}